@@ -0,0 +1,34 @@
+package com.sourav.aurora.benchmark;
+
+import com.sourav.aurora.AuroraApplication;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the application against a private in-memory H2 database for benchmarks that need
+ * the real persistence stack
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+        // Utility class
+    }
+
+    public static ConfigurableApplicationContext start(String databaseName) {
+        return new SpringApplicationBuilder(AuroraApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName,
+                        // Blank keys keep both providers disabled so scheduled jobs never go to the network
+                        "news.apikeys.newsapi=",
+                        "news.apikeys.gnews=",
+                        "logging.level.root=WARN",
+                        "logging.level.com.sourav.aurora=WARN",
+                        "logging.level.org.springframework.web=WARN")
+                .run();
+    }
+}
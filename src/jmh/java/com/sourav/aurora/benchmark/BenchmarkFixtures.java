@@ -0,0 +1,150 @@
+package com.sourav.aurora.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sourav.aurora.config.NewsProviderConfig;
+import com.sourav.aurora.config.VirtualThreadConfig;
+import com.sourav.aurora.model.Article;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Deterministic test data shared by the JMH benchmarks.
+ * Payloads mirror the shape of real NewsAPI / GNews top-headlines responses.
+ */
+public final class BenchmarkFixtures {
+
+    public static final String[] COUNTRIES = {"us", "gb", "ca", "au", "de", "fr", "it", "in"};
+    public static final String[] LANGUAGES = {"en", "en", "en", "en", "de", "fr", "it", "en"};
+    public static final String[] CATEGORIES = {"general", "business", "technology", "health", "science", "sports", "entertainment"};
+    public static final String[] SOURCES = {"Reuters", "BBC News", "The Verge", "Associated Press", "Bloomberg", "CNN", "Der Spiegel", "Le Monde"};
+
+    private static final String[] WORDS = {
+        "market", "climate", "election", "economy", "technology", "health", "policy", "energy",
+        "innovation", "science", "finance", "security", "research", "global", "report", "growth",
+        "government", "industry", "startup", "AI", "space", "football", "vaccine", "inflation"
+    };
+
+    private static final ObjectMapper OBJECT_MAPPER = new VirtualThreadConfig().objectMapper();
+
+    private BenchmarkFixtures() {
+        // Utility class
+    }
+
+    public static ObjectMapper objectMapper() {
+        return OBJECT_MAPPER;
+    }
+
+    /**
+     * Provider configuration with valid-looking keys so both providers report enabled
+     */
+    public static NewsProviderConfig providerConfig() {
+        NewsProviderConfig config = new NewsProviderConfig();
+        config.setApikeys(Map.of("newsapi", "benchmark-key", "gnews", "benchmark-key"));
+
+        NewsProviderConfig.ProviderSettings newsApi = new NewsProviderConfig.ProviderSettings();
+        newsApi.setBaseUrl("https://newsapi.org/v2");
+        NewsProviderConfig.ProviderSettings gnews = new NewsProviderConfig.ProviderSettings();
+        gnews.setBaseUrl("https://gnews.io/api/v4");
+        config.setProviders(Map.of("newsapi", newsApi, "gnews", gnews));
+        return config;
+    }
+
+    /**
+     * NewsAPI top-headlines payload with the given number of articles
+     */
+    public static String newsApiPayload(int count) {
+        Random random = new Random(42);
+        ObjectNode root = OBJECT_MAPPER.createObjectNode();
+        root.put("status", "ok");
+        root.put("totalResults", count);
+        ArrayNode articles = root.putArray("articles");
+        for (int i = 0; i < count; i++) {
+            ObjectNode article = articles.addObject();
+            ObjectNode source = article.putObject("source");
+            source.put("id", "source-" + (i % SOURCES.length));
+            source.put("name", SOURCES[i % SOURCES.length]);
+            article.put("author", "Staff Writer " + i);
+            article.put("title", sentence(random, 8 + random.nextInt(8)));
+            article.put("description", sentence(random, 30 + random.nextInt(120)));
+            article.put("url", "https://news.example.com/newsapi/" + i + "/" + Long.toHexString(random.nextLong()));
+            article.put("urlToImage", "https://images.example.com/newsapi/" + i + ".jpg");
+            article.put("publishedAt", timestamp(i));
+            article.put("content", sentence(random, 40));
+        }
+        return root.toString();
+    }
+
+    /**
+     * GNews top-headlines payload with the given number of articles
+     */
+    public static String gnewsPayload(int count) {
+        Random random = new Random(7);
+        ObjectNode root = OBJECT_MAPPER.createObjectNode();
+        root.put("totalArticles", count);
+        ArrayNode articles = root.putArray("articles");
+        for (int i = 0; i < count; i++) {
+            ObjectNode article = articles.addObject();
+            article.put("title", sentence(random, 8 + random.nextInt(8)));
+            article.put("description", sentence(random, 30 + random.nextInt(120)));
+            article.put("content", sentence(random, 40));
+            article.put("url", "https://news.example.com/gnews/" + i + "/" + Long.toHexString(random.nextLong()));
+            article.put("image", "https://images.example.com/gnews/" + i + ".jpg");
+            article.put("publishedAt", timestamp(i));
+            ObjectNode source = article.putObject("source");
+            source.put("name", SOURCES[i % SOURCES.length]);
+            source.put("url", "https://source.example.com/" + (i % SOURCES.length));
+        }
+        return root.toString();
+    }
+
+    /**
+     * Unsaved article entities as produced by the providers, with URLs unique per prefix
+     */
+    public static List<Article> articles(int count, String urlPrefix) {
+        Random random = new Random(urlPrefix.hashCode());
+        LocalDateTime now = LocalDateTime.now();
+        List<Article> articles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int bucket = i % COUNTRIES.length;
+            articles.add(Article.builder()
+                    .title(sentence(random, 8 + random.nextInt(8)))
+                    .description(sentence(random, 30 + random.nextInt(120)))
+                    .url("https://news.example.com/" + urlPrefix + "/" + i)
+                    .source(SOURCES[i % SOURCES.length])
+                    .country(i % 5 == 0 ? null : COUNTRIES[bucket])
+                    .language(i % 5 == 0 ? null : LANGUAGES[bucket])
+                    .category(i % 7 == 0 ? null : CATEGORIES[i % CATEGORIES.length])
+                    .publishedAt(now.minusMinutes(i))
+                    .fetchedAt(now)
+                    .imageUrl("https://images.example.com/" + urlPrefix + "/" + i + ".jpg")
+                    .build());
+        }
+        return articles;
+    }
+
+    public static String sentence(Random random, int words) {
+        StringBuilder builder = new StringBuilder(words * 8);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    private static String timestamp(int offsetMinutes) {
+        return LocalDateTime.of(2025, 1, 15, 12, 0)
+                .minusMinutes(offsetMinutes)
+                .atOffset(ZoneOffset.UTC)
+                .format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+    }
+}
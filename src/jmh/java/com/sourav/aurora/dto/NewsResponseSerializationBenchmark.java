@@ -0,0 +1,115 @@
+package com.sourav.aurora.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sourav.aurora.benchmark.BenchmarkFixtures;
+import com.sourav.aurora.cache.SerializedNewsCache;
+import com.sourav.aurora.config.NewsProviderConfig;
+import com.sourav.aurora.model.Article;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Read-path cost after the query: entity to DTO mapping and JSON serialization of a page
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NewsResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private List<Article> articles;
+    private NewsResponse response;
+    private NewsResponse compactResponse;
+    private SerializedNewsCache serializedCache;
+    private final NewsQuery key = new NewsQuery(null, null, null, null, 0, 20, ArticleView.FULL);
+
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkFixtures.objectMapper();
+        AtomicLong ids = new AtomicLong();
+        articles = BenchmarkFixtures.articles(pageSize, "serialization");
+        articles.forEach(article -> {
+            article.setId(ids.incrementAndGet());
+            article.setSummary(article.getDescription());
+        });
+        response = toResponse(articles.stream().map(ArticleDto::fromEntity).collect(Collectors.toList()));
+        compactResponse = toResponse(articles.stream().map(NewsResponseSerializationBenchmark::toCompact).toList());
+        serializedCache = new SerializedNewsCache(objectMapper, new NewsProviderConfig(), new SimpleMeterRegistry());
+        serializedCache.get(key, response);
+    }
+
+    @Benchmark
+    public NewsResponse mapEntities() {
+        return toResponse(articles.stream().map(ArticleDto::fromEntity).collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeCompact() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(compactResponse);
+    }
+
+    @Benchmark
+    public byte[] serializedCacheHit() {
+        return serializedCache.get(key, response).json();
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(toResponse(articles.stream().map(ArticleDto::fromEntity).collect(Collectors.toList())));
+    }
+
+    /**
+     * The compact view is read from the card columns directly, so there is no mapping step to measure
+     */
+    private static CompactArticleDto toCompact(Article article) {
+        String teaser = article.getSummary() != null ? article.getSummary() : article.getDescription();
+        return new CompactArticleDto(article.getId(), article.getTitle(),
+                teaser != null && teaser.length() > CompactArticleDto.TEASER_LENGTH ? teaser.substring(0, CompactArticleDto.TEASER_LENGTH) : teaser,
+                article.getUrl(), article.getSource(), article.getCategory(), article.getCountry(),
+                article.getPublishedAt(), article.getFetchedAt(), article.getImageUrl());
+    }
+
+    private NewsResponse toResponse(List<?> dtos) {
+        return NewsResponse.builder()
+                .articles(dtos)
+                .totalPages(50)
+                .totalElements(50L * pageSize)
+                .currentPage(0)
+                .pageSize(pageSize)
+                .hasNext(true)
+                .hasPrevious(false)
+                .availableCountries(Arrays.asList(BenchmarkFixtures.COUNTRIES))
+                .availableLanguages(Arrays.stream(BenchmarkFixtures.LANGUAGES).distinct().toList())
+                .availableCategories(Arrays.asList(BenchmarkFixtures.CATEGORIES))
+                .availableSources(Arrays.asList(BenchmarkFixtures.SOURCES))
+                .build();
+    }
+}
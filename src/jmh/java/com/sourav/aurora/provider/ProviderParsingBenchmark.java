@@ -0,0 +1,98 @@
+package com.sourav.aurora.provider;
+
+import com.sourav.aurora.benchmark.BenchmarkFixtures;
+import com.sourav.aurora.config.NewsProviderConfig;
+import com.sourav.aurora.model.Article;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing cost of a 100-article top-headlines payload for each provider,
+ * both from an in-memory string and streamed in network-sized chunks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProviderParsingBenchmark {
+    
+    private static final int ARTICLES_PER_PAGE = 100;
+    private static final int CHUNK_SIZE = 8 * 1024;
+    
+    private NewsApiProvider newsApiProvider;
+    private GNewsProvider gnewsProvider;
+    private String newsApiPayload;
+    private String gnewsPayload;
+    private List<byte[]> newsApiChunks;
+    private List<byte[]> gnewsChunks;
+    
+    @Setup
+    public void setUp() {
+        WebClient webClient = WebClient.create();
+        NewsProviderConfig config = BenchmarkFixtures.providerConfig();
+        ProviderQuotaLedger quotaLedger = new ProviderQuotaLedger(config);
+        config.getProviderCache().setEnabled(false);
+        ProviderResponseCache responseCache = new ProviderResponseCache(config, new SimpleMeterRegistry());
+        ProviderHighWaterMarks highWaterMarks = new ProviderHighWaterMarks(config);
+        newsApiProvider = new NewsApiProvider(webClient, config, BenchmarkFixtures.objectMapper(), quotaLedger, responseCache, highWaterMarks);
+        gnewsProvider = new GNewsProvider(webClient, config, BenchmarkFixtures.objectMapper(), quotaLedger, responseCache, highWaterMarks);
+        newsApiPayload = BenchmarkFixtures.newsApiPayload(ARTICLES_PER_PAGE);
+        gnewsPayload = BenchmarkFixtures.gnewsPayload(ARTICLES_PER_PAGE);
+        newsApiChunks = chunk(newsApiPayload);
+        gnewsChunks = chunk(gnewsPayload);
+    }
+    
+    @Benchmark
+    public List<Article> parseNewsApi() {
+        return newsApiProvider.parseResponse(newsApiPayload, "us", "en", "general");
+    }
+    
+    @Benchmark
+    public List<Article> parseGNews() {
+        return gnewsProvider.parseResponse(gnewsPayload, "us", "en", "general");
+    }
+    
+    @Benchmark
+    public List<Article> streamNewsApi() {
+        return newsApiProvider.decodeArticles(buffers(newsApiChunks), "us", "en", "general").collectList().block();
+    }
+    
+    @Benchmark
+    public List<Article> streamGNews() {
+        return gnewsProvider.decodeArticles(buffers(gnewsChunks), "us", "en", "general").collectList().block();
+    }
+    
+    private static List<byte[]> chunk(String payload) {
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        List<byte[]> chunks = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += CHUNK_SIZE) {
+            chunks.add(Arrays.copyOfRange(bytes, offset, Math.min(bytes.length, offset + CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+    
+    private static Flux<DataBuffer> buffers(List<byte[]> chunks) {
+        return Flux.fromIterable(chunks).map(DefaultDataBufferFactory.sharedInstance::wrap);
+    }
+}
@@ -0,0 +1,140 @@
+package com.sourav.aurora.repository;
+
+import com.sourav.aurora.benchmark.BenchmarkContext;
+import com.sourav.aurora.benchmark.BenchmarkFixtures;
+import com.sourav.aurora.dto.CompactArticleDto;
+import com.sourav.aurora.index.SearchIndex;
+import com.sourav.aurora.model.Article;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listing and keyword queries against tables of increasing size
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class ArticleQueryBenchmark {
+
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final String INSERT_SQL = "INSERT INTO news_articles " +
+            "(id, title, description, summary, url, source, category, country, language, published_at, fetched_at, image_url) " +
+            "VALUES (NEXT VALUE FOR news_articles_seq, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Param({"10000", "100000", "1000000"})
+    public int rowCount;
+
+    private ConfigurableApplicationContext context;
+    private ArticleRepository articleRepository;
+    private SearchIndex searchIndex;
+    private final Pageable firstPage = PageRequest.of(0, 20);
+    private final Pageable deepPage = PageRequest.of(50, 20);
+
+    @Setup
+    public void seed() {
+        context = BenchmarkContext.start("query" + rowCount);
+        articleRepository = context.getBean(ArticleRepository.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        Random random = new Random(rowCount);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < rowCount; i++) {
+            int bucket = i % BenchmarkFixtures.COUNTRIES.length;
+            String description = BenchmarkFixtures.sentence(random, 30 + random.nextInt(60));
+            batch.add(new Object[] {
+                    BenchmarkFixtures.sentence(random, 10),
+                    description,
+                    description.length() > 230 ? description.substring(0, 230) + "..." : description,
+                    "https://news.example.com/seed/" + i,
+                    BenchmarkFixtures.SOURCES[i % BenchmarkFixtures.SOURCES.length],
+                    BenchmarkFixtures.CATEGORIES[i % BenchmarkFixtures.CATEGORIES.length],
+                    BenchmarkFixtures.COUNTRIES[bucket],
+                    BenchmarkFixtures.LANGUAGES[bucket],
+                    Timestamp.valueOf(now.minusSeconds(i * 30L)),
+                    Timestamp.valueOf(now.minusSeconds(i * 20L)),
+                    "https://images.example.com/seed/" + i + ".jpg"
+            });
+            if (batch.size() == SEED_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        }
+
+        searchIndex = context.getBean(SearchIndex.class);
+        searchIndex.load();
+    }
+
+    @TearDown
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Article> unfilteredFirstPage() {
+        return articleRepository.findArticlesWithFilters(null, null, null, null, firstPage);
+    }
+
+    @Benchmark
+    public Page<Article> filteredFirstPage() {
+        return articleRepository.findArticlesWithFilters("us", "en", "technology", null, firstPage);
+    }
+
+    @Benchmark
+    public Page<Article> filteredDeepPage() {
+        return articleRepository.findArticlesWithFilters("us", "en", "technology", null, deepPage);
+    }
+
+    @Benchmark
+    public List<Article> unfilteredFirstPageEntities() {
+        return articleRepository.findArticleRangeWithFilters(null, null, null, null, 0, 20);
+    }
+
+    @Benchmark
+    public List<CompactArticleDto> unfilteredFirstPageCompact() {
+        return articleRepository.findCompactRangeWithFilters(null, null, null, null, 0, 20);
+    }
+
+    @Benchmark
+    public Page<Article> keywordFirstPage() {
+        return articleRepository.findArticlesWithFilters(null, null, null, "climate", firstPage);
+    }
+
+    @Benchmark
+    public SearchIndex.SearchResult indexedKeywordFirstPage() {
+        return searchIndex.search("climate", null, null, null, 0, 20);
+    }
+
+    @Benchmark
+    public SearchIndex.SearchResult indexedKeywordFilteredFirstPage() {
+        return searchIndex.search("climate", "us", "en", "technology", 0, 20);
+    }
+}
@@ -0,0 +1,80 @@
+package com.sourav.aurora.service;
+
+import com.sourav.aurora.benchmark.BenchmarkContext;
+import com.sourav.aurora.benchmark.BenchmarkFixtures;
+import com.sourav.aurora.model.Article;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ingest path costs: validation/enrichment of a provider page and persisting batches into H2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArticleIngestBenchmark {
+
+    @Param({"100", "500"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private NewsService newsService;
+    private SummarizerService summarizerService;
+    private List<Article> freshBatch;
+    private List<Article> processingBatch;
+    private long generation;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkContext.start("ingest");
+        newsService = context.getBean(NewsService.class);
+        summarizerService = context.getBean(SummarizerService.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareBatch() {
+        // Persisting mutates the entities, so every invocation gets new instances with unseen URLs
+        generation++;
+        freshBatch = BenchmarkFixtures.articles(batchSize, "ingest-" + generation);
+        processingBatch = BenchmarkFixtures.articles(batchSize, "processing-" + generation);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public void validateAndEnrich(Blackhole blackhole) {
+        for (Article article : processingBatch) {
+            if (newsService.isValidArticle(article)) {
+                newsService.enrichArticle(article, "us", "en", "general");
+                blackhole.consume(summarizerService.generateSummary(article.getDescription()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void persistBatch() {
+        newsService.saveArticles(freshBatch, "us", "en", "general");
+    }
+}
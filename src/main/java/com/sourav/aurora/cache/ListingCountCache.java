@@ -0,0 +1,90 @@
+package com.sourav.aurora.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.sourav.aurora.config.NewsProviderConfig;
+import com.sourav.aurora.dto.NewsQuery;
+import com.sourav.aurora.event.ArticlesPurgedEvent;
+import com.sourav.aurora.event.ArticlesSavedEvent;
+import com.sourav.aurora.model.Article;
+import com.sourav.aurora.repository.ArticleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Exact totals of filtered listings, kept per filter so that paging does not have to count on every request.
+ * A total is computed in the background the first time its filter is asked for, and recomputed when saved
+ * articles match the filter or a purge removes rows; the previous value is served until the new one is ready.
+ */
+@Component
+@Slf4j
+public class ListingCountCache {
+    
+    private final ArticleRepository articleRepository;
+    private final AsyncLoadingCache<NewsQuery, Long> counts;
+    
+    public ListingCountCache(ArticleRepository articleRepository, NewsProviderConfig config,
+                             Executor virtualThreadExecutor, MeterRegistry meterRegistry) {
+        this.articleRepository = articleRepository;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(config.getCache().getCountMaxEntries())
+                .expireAfterAccess(Duration.ofSeconds(config.getCache().getTtl()))
+                .executor(virtualThreadExecutor)
+                .recordStats()
+                .buildAsync(this::count);
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "listingCounts");
+    }
+    
+    /**
+     * The total for the filter if it is already known. Otherwise counting starts in the background and
+     * null is returned, so a later request for the same filter gets the total.
+     */
+    public Long getIfReady(String country, String language, String category, String keyword) {
+        CompletableFuture<Long> total = counts.get(NewsQuery.filter(country, language, category, keyword));
+        return total.isDone() && !total.isCompletedExceptionally() ? total.join() : null;
+    }
+    
+    /**
+     * The total for the filter if it is already known, without starting a count
+     */
+    public Long peek(String country, String language, String category, String keyword) {
+        CompletableFuture<Long> total = counts.getIfPresent(NewsQuery.filter(country, language, category, keyword));
+        return total != null && total.isDone() && !total.isCompletedExceptionally() ? total.join() : null;
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesSaved(ArticlesSavedEvent event) {
+        List<Article> articles = event.articles();
+        LoadingCache<NewsQuery, Long> view = counts.synchronous();
+        int refreshed = 0;
+        for (NewsQuery filter : view.asMap().keySet()) {
+            if (articles.stream().anyMatch(filter::matches)) {
+                view.refresh(filter);
+                refreshed++;
+            }
+        }
+        log.debug("Recounting {} cached listing totals after saving {} articles", refreshed, articles.size());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesPurged(ArticlesPurgedEvent event) {
+        if (event.deletedCount() > 0) {
+            // The purge is a bulk delete by fetch time, so any filter may have lost rows
+            LoadingCache<NewsQuery, Long> view = counts.synchronous();
+            view.refreshAll(view.asMap().keySet());
+        }
+    }
+    
+    private Long count(NewsQuery filter) {
+        return articleRepository.countArticlesWithFilters(filter.country(), filter.language(), filter.category(), filter.keyword());
+    }
+}
@@ -0,0 +1,122 @@
+package com.sourav.aurora.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sourav.aurora.config.NewsProviderConfig;
+import com.sourav.aurora.dto.NewsQuery;
+import com.sourav.aurora.event.ArticlesPurgedEvent;
+import com.sourav.aurora.event.ArticlesSavedEvent;
+import com.sourav.aurora.index.FacetRegistry;
+import com.sourav.aurora.model.Article;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Data versions of filtered listings, from which the news endpoints derive their ETag and Last-Modified
+ * validators without running a query. Every save or purge starts a new ingest generation; a filter moves
+ * to it when saved articles match the filter, and every filter does on a purge or when the facet lists
+ * embedded in each page change. A filter seen for the first time starts at the current generation.
+ */
+@Component
+@Slf4j
+public class ListingVersions {
+    
+    private final FacetRegistry facetRegistry;
+    private final String instance = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong generation = new AtomicLong();
+    private final Cache<NewsQuery, Version> versions;
+    private volatile Version latest = new Version(0, Instant.now().truncatedTo(ChronoUnit.SECONDS));
+    private List<List<String>> facets;
+    
+    public ListingVersions(FacetRegistry facetRegistry, NewsProviderConfig config) {
+        this.facetRegistry = facetRegistry;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(config.getCache().getCountMaxEntries())
+                .build();
+    }
+    
+    /**
+     * Validator of a listing with the given filters. The variant holds whatever else selects the
+     * representation (page, size, view, ...), so different pages of the same filter never share an ETag.
+     * The ETag is weak: a page may be sent gzipped or not under the same tag, equal in content but not in bytes.
+     */
+    public Validator validator(String country, String language, String category, String keyword, Object... variant) {
+        NewsQuery filter = NewsQuery.filter(country, language, category, keyword);
+        Version version = versions.get(filter, key -> latest);
+        String etag = "W/\"" + instance + "-" + version.generation() + "-"
+                + Integer.toHexString(31 * filter.hashCode() + Arrays.hashCode(variant)) + "\"";
+        return new Validator(etag, version.changedAt());
+    }
+    
+    /**
+     * Runs after every listener that changes what a listing returns, so a request that already sees
+     * the new generation can no longer be served a page cached or indexed before the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public synchronized void onArticlesSaved(ArticlesSavedEvent event) {
+        List<Article> articles = event.articles();
+        if (articles.isEmpty()) {
+            return;
+        }
+        Version change = advance();
+        if (facetsChanged()) {
+            versions.invalidateAll();
+            log.debug("Facets changed, all listings moved to generation {}", change.generation());
+            return;
+        }
+        for (NewsQuery filter : versions.asMap().keySet()) {
+            if (articles.stream().anyMatch(filter::matches)) {
+                versions.put(filter, change);
+            }
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public synchronized void onArticlesPurged(ArticlesPurgedEvent event) {
+        if (event.deletedCount() > 0) {
+            advance();
+            facetsChanged();
+            versions.invalidateAll();
+        }
+    }
+    
+    /**
+     * Next generation. Its timestamp is kept at least a second past the previous one, so Last-Modified,
+     * which has whole-second precision, still tells two generations apart.
+     */
+    private Version advance() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant previous = latest.changedAt();
+        Version next = new Version(generation.incrementAndGet(), now.isAfter(previous) ? now : previous.plusSeconds(1));
+        latest = next;
+        return next;
+    }
+    
+    private boolean facetsChanged() {
+        List<List<String>> current = List.of(facetRegistry.countries(), facetRegistry.languages(),
+                facetRegistry.categories(), facetRegistry.sources());
+        boolean changed = !current.equals(facets);
+        facets = current;
+        return changed;
+    }
+    
+    record Version(long generation, Instant changedAt) {
+    }
+    
+    /**
+     * Weak ETag and last modification time of a listing
+     */
+    public record Validator(String etag, Instant lastModified) {
+    }
+}
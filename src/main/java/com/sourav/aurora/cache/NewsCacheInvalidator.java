@@ -0,0 +1,126 @@
+package com.sourav.aurora.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.sourav.aurora.constants.ApplicationConstants;
+import com.sourav.aurora.dto.NewsQuery;
+import com.sourav.aurora.dto.NewsResponse;
+import com.sourav.aurora.event.ArticlesPurgedEvent;
+import com.sourav.aurora.event.ArticlesSavedEvent;
+import com.sourav.aurora.model.Article;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Evicts only the cached news pages that newly persisted articles could change,
+ * instead of clearing the whole cache on every refresh. The previous pages kept by the
+ * single-flight loader as a fallback are dropped by the same rules.
+ */
+@Component
+@Slf4j
+public class NewsCacheInvalidator {
+    
+    private final CacheManager cacheManager;
+    private final SingleFlight<NewsQuery, NewsResponse> newsLoads;
+    private final Counter evictions;
+    
+    public NewsCacheInvalidator(CacheManager cacheManager, SingleFlight<NewsQuery, NewsResponse> newsLoads, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.newsLoads = newsLoads;
+        this.evictions = Counter.builder("aurora.cache.invalidations")
+                .tag("cache", ApplicationConstants.CACHE_NEWS)
+                .description("News cache entries evicted because matching articles were saved or purged")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Runs after the facet registry and ahead of {@link ListingVersions}, so no request is handed the new
+     * validator together with a page cached before the save
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void onArticlesSaved(ArticlesSavedEvent event) {
+        Cache<Object, Object> cache = nativeCache();
+        List<Article> articles = event.articles();
+        if (articles.isEmpty()) {
+            return;
+        }
+        newsLoads.invalidatePrevious((key, value) -> isAffected(key, value, articles));
+        if (cache == null) {
+            return;
+        }
+        
+        int evicted = 0;
+        for (Map.Entry<Object, Object> entry : cache.asMap().entrySet()) {
+            if (isAffected(entry.getKey(), entry.getValue(), articles) && cache.asMap().remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        evictions.increment(evicted);
+        log.info("Evicted {} of {} cached news pages after saving {} articles", 
+                evicted, evicted + cache.estimatedSize(), articles.size());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void onArticlesPurged(ArticlesPurgedEvent event) {
+        Cache<Object, Object> cache = nativeCache();
+        if (event.deletedCount() == 0) {
+            return;
+        }
+        newsLoads.invalidateAllPrevious();
+        if (cache == null) {
+            return;
+        }
+        
+        // The purge is a bulk delete by fetch time, so which filters lost rows is unknown; start over
+        long evicted = cache.estimatedSize();
+        cache.invalidateAll();
+        evictions.increment(evicted);
+        log.info("Evicted all {} cached news pages after purging {} articles", evicted, event.deletedCount());
+    }
+    
+    private static boolean isAffected(Object key, Object value, List<Article> articles) {
+        if (!(key instanceof NewsQuery query)) {
+            return true;
+        }
+        for (Article article : articles) {
+            if (query.matches(article)) {
+                return true;
+            }
+        }
+        // Pages outside the new articles' filters still list the available facets, which may have grown
+        return value instanceof NewsResponse response
+                && (introducesValue(response.getAvailableCountries(), articles, Article::getCountry)
+                    || introducesValue(response.getAvailableLanguages(), articles, Article::getLanguage)
+                    || introducesValue(response.getAvailableCategories(), articles, Article::getCategory)
+                    || introducesValue(response.getAvailableSources(), articles, Article::getSource));
+    }
+    
+    private static boolean introducesValue(List<String> known, List<Article> articles, Function<Article, String> facet) {
+        if (known == null) {
+            return true;
+        }
+        return articles.stream()
+                .map(facet)
+                .filter(Objects::nonNull)
+                .anyMatch(value -> !known.contains(value));
+    }
+    
+    private Cache<Object, Object> nativeCache() {
+        return cacheManager.getCache(ApplicationConstants.CACHE_NEWS) instanceof CaffeineCache caffeineCache
+                ? caffeineCache.getNativeCache()
+                : null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.sourav.aurora.cache;
+
+import com.sourav.aurora.dto.ArticleView;
+import com.sourav.aurora.dto.NewsQuery;
+import org.springframework.cache.interceptor.KeyGenerator;
+
+import java.lang.reflect.Method;
+
+/**
+ * Builds a structured {@link NewsQuery} key from the
+ * {@code (country, language, category, keyword, page, size[, view])} arguments of a news listing,
+ * so cached entries can later be matched against newly saved articles. A missing view means the full view.
+ */
+public class NewsQueryKeyGenerator implements KeyGenerator {
+    
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        return new NewsQuery(
+                (String) params[0],
+                (String) params[1],
+                (String) params[2],
+                (String) params[3],
+                (Integer) params[4],
+                (Integer) params[5],
+                params.length > 6 ? (ArticleView) params[6] : ArticleView.FULL);
+    }
+}
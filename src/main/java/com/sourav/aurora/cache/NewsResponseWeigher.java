@@ -0,0 +1,107 @@
+package com.sourav.aurora.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.sourav.aurora.dto.ArticleDto;
+import com.sourav.aurora.dto.CompactArticleDto;
+import com.sourav.aurora.dto.NewsQuery;
+import com.sourav.aurora.dto.NewsResponse;
+
+import java.util.List;
+
+/**
+ * Estimates the retained heap size of cached values in bytes, so the cache can be bounded by memory
+ * rather than by entry count. Figures assume a 64-bit JVM with compressed oops and compact strings.
+ */
+public class NewsResponseWeigher implements Weigher<Object, Object> {
+    
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int STRING_OVERHEAD = 40; // String object plus its byte[] header
+    private static final int DATE_TIME = 72; // LocalDateTime with its LocalDate and LocalTime
+    private static final int LIST_OVERHEAD = 40; // ArrayList plus its Object[] header
+    private static final int RESPONSE_FIELDS = 64;
+    private static final int ARTICLE_FIELDS = 64;
+    private static final int COMPACT_FIELDS = 56;
+    
+    @Override
+    public int weigh(Object key, Object value) {
+        long bytes = estimateKey(key) + (value instanceof NewsResponse response ? estimate(response) : OBJECT_HEADER);
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+    
+    static long estimate(NewsResponse response) {
+        long bytes = RESPONSE_FIELDS;
+        List<?> articles = response.getArticles();
+        if (articles != null) {
+            bytes += LIST_OVERHEAD + (long) articles.size() * REFERENCE;
+            for (Object article : articles) {
+                bytes += article instanceof CompactArticleDto card ? estimate(card) : estimate((ArticleDto) article);
+            }
+        }
+        bytes += estimate(response.getAvailableCountries());
+        bytes += estimate(response.getAvailableLanguages());
+        bytes += estimate(response.getAvailableCategories());
+        bytes += estimate(response.getAvailableSources());
+        bytes += estimate(response.getNextCursor());
+        return bytes;
+    }
+    
+    static long estimate(ArticleDto article) {
+        if (article == null) {
+            return 0;
+        }
+        return ARTICLE_FIELDS + 2L * OBJECT_HEADER // Long id
+                + estimate(article.getTitle())
+                + estimate(article.getDescription())
+                + estimate(article.getSummary())
+                + estimate(article.getUrl())
+                + estimate(article.getSource())
+                + estimate(article.getCategory())
+                + estimate(article.getCountry())
+                + estimate(article.getLanguage())
+                + estimate(article.getImageUrl())
+                + (article.getPublishedAt() != null ? DATE_TIME : 0)
+                + (article.getFetchedAt() != null ? DATE_TIME : 0);
+    }
+    
+    static long estimate(CompactArticleDto card) {
+        return COMPACT_FIELDS + 2L * OBJECT_HEADER // Long id
+                + estimate(card.title())
+                + estimate(card.summary())
+                + estimate(card.url())
+                + estimate(card.source())
+                + estimate(card.category())
+                + estimate(card.country())
+                + estimate(card.imageUrl())
+                + (card.publishedAt() != null ? DATE_TIME : 0)
+                + (card.fetchedAt() != null ? DATE_TIME : 0);
+    }
+    
+    private static long estimate(List<String> values) {
+        if (values == null) {
+            return 0;
+        }
+        long bytes = LIST_OVERHEAD + (long) values.size() * REFERENCE;
+        for (String value : values) {
+            bytes += estimate(value);
+        }
+        return bytes;
+    }
+    
+    private static long estimate(String value) {
+        if (value == null) {
+            return 0;
+        }
+        // Latin-1 strings take one byte per char; anything else is stored as UTF-16
+        boolean latin1 = value.chars().allMatch(c -> c < 256);
+        return STRING_OVERHEAD + (long) value.length() * (latin1 ? 1 : 2);
+    }
+    
+    private static long estimateKey(Object key) {
+        if (key instanceof NewsQuery query) {
+            return OBJECT_HEADER + 24 + estimate(query.country()) + estimate(query.language())
+                    + estimate(query.category()) + estimate(query.keyword());
+        }
+        return key instanceof String s ? estimate(s) : OBJECT_HEADER;
+    }
+}
@@ -0,0 +1,96 @@
+package com.sourav.aurora.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sourav.aurora.config.NewsProviderConfig;
+import com.sourav.aurora.dto.NewsQuery;
+import com.sourav.aurora.dto.NewsResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Second tier of the news cache holding the final UTF-8 JSON of cached listing pages, plus a gzip copy of
+ * the larger ones, so a hit is written out without running Jackson. An entry is only served while the news
+ * cache still holds the exact response it was serialized from, so it can never outlive an eviction there;
+ * removals from the news cache also drop the bytes eagerly to release their memory.
+ */
+@Component
+public class SerializedNewsCache {
+    
+    private static final int ENTRY_OVERHEAD = 96;
+    
+    private final ObjectMapper objectMapper;
+    private final long gzipMinBytes;
+    private final Cache<NewsQuery, SerializedResponse> cache;
+    
+    public SerializedNewsCache(ObjectMapper objectMapper, NewsProviderConfig config, MeterRegistry meterRegistry) {
+        NewsProviderConfig.Cache settings = config.getCache();
+        this.objectMapper = objectMapper;
+        this.gzipMinBytes = settings.getGzipMinSize().toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(settings.getSerializedMaxSize().toBytes())
+                .weigher((NewsQuery key, SerializedResponse value) -> value.weight())
+                .expireAfterWrite(Duration.ofSeconds(settings.getTtl()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "newsSerialized");
+    }
+    
+    /**
+     * Bytes of the response cached under the key, serializing it when the stored bytes are missing
+     * or belong to a response the news cache no longer holds
+     */
+    public SerializedResponse get(NewsQuery key, NewsResponse response) {
+        SerializedResponse cached = cache.getIfPresent(key);
+        if (cached != null && cached.source() == response) {
+            return cached;
+        }
+        SerializedResponse serialized = serialize(response);
+        cache.put(key, serialized);
+        return serialized;
+    }
+    
+    public void invalidate(Object key) {
+        if (key instanceof NewsQuery query) {
+            cache.invalidate(query);
+        }
+    }
+    
+    private SerializedResponse serialize(NewsResponse response) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            return new SerializedResponse(response, json, json.length >= gzipMinBytes ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize news response", e);
+        }
+    }
+    
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+    
+    /**
+     * JSON body of a cached page; {@code gzip} is null when the body is too small to be worth compressing
+     */
+    public record SerializedResponse(NewsResponse source, byte[] json, byte[] gzip) {
+        
+        int weight() {
+            return ENTRY_OVERHEAD + json.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+}
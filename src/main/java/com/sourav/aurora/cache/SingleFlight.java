@@ -0,0 +1,153 @@
+package com.sourav.aurora.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the loader, callers arriving while it runs
+ * wait for its result instead of repeating the work. Waiting is bounded by {@code maxWait}. The last value
+ * loaded for each key is kept in {@code previousValues} and served when the load fails or takes too long;
+ * without one, a caller that waited too long loads on its own and a failure is rethrown. A previous value served
+ * this way is reported by {@link #isStale} so that callers do not cache it as fresh.
+ * Unlike a synchronized cache compute, waiting parks on a future, so virtual threads are not pinned.
+ */
+@Slf4j
+public class SingleFlight<K, V> {
+    
+    private final String name;
+    private final long maxWaitMillis;
+    private final Cache<K, V> previousValues;
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Cache<V, Boolean> staleValues = Caffeine.newBuilder().weakKeys().build();
+    private final StatsCounter loads = new ConcurrentStatsCounter();
+    private final Counter coalesced;
+    private final MeterRegistry meterRegistry;
+    
+    public SingleFlight(String name, Duration maxWait, Cache<K, V> previousValues, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxWaitMillis = maxWait.toMillis();
+        this.previousValues = previousValues;
+        this.meterRegistry = meterRegistry;
+        this.coalesced = Counter.builder("aurora.singleflight.coalesced")
+                .tag("name", name)
+                .description("Loads answered by another caller's load of the same key")
+                .register(meterRegistry);
+    }
+    
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            coalesced.increment();
+            return await(key, running, loader);
+        }
+        
+        try {
+            V value = timed(loader);
+            previousValues.put(key, value);
+            own.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            own.completeExceptionally(e);
+            return previousOrThrow(key, e);
+        } finally {
+            inFlight.remove(key, own);
+            own.completeExceptionally(new IllegalStateException("Load of " + key + " did not complete"));
+        }
+    }
+    
+    private V await(K key, CompletableFuture<V> running, Supplier<V> loader) {
+        try {
+            return running.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            V previous = previousValues.getIfPresent(key);
+            if (previous != null) {
+                log.warn("Load of {} {} still running after {} ms, serving the previous value", name, key, maxWaitMillis);
+                return stale(previous, "timeout");
+            }
+            log.debug("Load of {} {} still running after {} ms, loading separately", name, key, maxWaitMillis);
+            return timed(loader);
+        } catch (ExecutionException e) {
+            return previousOrThrow(key, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for the load of " + name + " " + key, e);
+        }
+    }
+    
+    private V previousOrThrow(K key, Throwable failure) {
+        V previous = previousValues.getIfPresent(key);
+        if (previous == null) {
+            if (failure instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Load of " + name + " " + key + " failed", failure);
+        }
+        log.warn("Load of {} {} failed, serving the previous value: {}", name, key, failure.getMessage());
+        return stale(previous, "failure");
+    }
+    
+    /**
+     * Whether the value was served in place of a load that failed or took too long
+     */
+    public boolean isStale(V value) {
+        return value != null && staleValues.getIfPresent(value) != null;
+    }
+    
+    /**
+     * Drop the previous values the predicate selects, e.g. those that changes to the underlying data make wrong
+     */
+    public void invalidatePrevious(BiPredicate<? super K, ? super V> predicate) {
+        previousValues.asMap().entrySet().removeIf(entry -> predicate.test(entry.getKey(), entry.getValue()));
+    }
+    
+    public void invalidateAllPrevious() {
+        previousValues.invalidateAll();
+    }
+    
+    /**
+     * Counts and total time of the loads run, successful or failed; coalesced callers do not add to them
+     */
+    public CacheStats stats() {
+        return loads.snapshot();
+    }
+    
+    private V timed(Supplier<V> loader) {
+        long start = System.nanoTime();
+        try {
+            V value = loader.get();
+            loads.recordLoadSuccess(System.nanoTime() - start);
+            return value;
+        } catch (RuntimeException e) {
+            loads.recordLoadFailure(System.nanoTime() - start);
+            throw e;
+        }
+    }
+    
+    private V stale(V previous, String reason) {
+        staleValues.put(previous, Boolean.TRUE);
+        Counter.builder("aurora.singleflight.stale")
+                .tag("name", name)
+                .tag("reason", reason)
+                .description("Previous values served because a load failed or took longer than the wait bound")
+                .register(meterRegistry)
+                .increment();
+        return previous;
+    }
+}
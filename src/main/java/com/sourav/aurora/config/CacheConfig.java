@@ -1,17 +1,70 @@
 package com.sourav.aurora.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sourav.aurora.cache.NewsQueryKeyGenerator;
+import com.sourav.aurora.cache.NewsResponseWeigher;
+import com.sourav.aurora.cache.SerializedNewsCache;
+import com.sourav.aurora.cache.SingleFlight;
+import com.sourav.aurora.constants.ApplicationConstants;
+import com.sourav.aurora.dto.NewsQuery;
+import com.sourav.aurora.dto.NewsResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.List;
+
 @Configuration
 @EnableCaching
+@Slf4j
 public class CacheConfig {
     
+    /**
+     * Caffeine cache bounded by the estimated size of cached responses, with W-TinyLFU eviction
+     * and write expiry from {@code news.cache.ttl}. Statistics are published as cache.* metrics.
+     * Whatever leaves the cache also leaves the {@link SerializedNewsCache} tier above it.
+     */
+    @Bean
+    public CacheManager cacheManager(NewsProviderConfig config, SerializedNewsCache serializedNewsCache) {
+        NewsProviderConfig.Cache settings = config.getCache();
+        log.info("Configuring news cache - max size: {}, ttl: {}s", settings.getMaxSize(), settings.getTtl());
+        
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumWeight(settings.getMaxSize().toBytes())
+                .weigher(new NewsResponseWeigher())
+                .expireAfterWrite(Duration.ofSeconds(settings.getTtl()))
+                .removalListener((key, value, cause) -> serializedNewsCache.invalidate(key))
+                .recordStats());
+        cacheManager.setCacheNames(List.of(ApplicationConstants.CACHE_NEWS));
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+    
+    /**
+     * Loads of news pages that miss the cache. After a refresh evicts a listing, the burst of identical requests
+     * that follows runs its queries once; the page last loaded is kept aside, until saved or purged articles
+     * change it, in case a later load fails.
+     */
+    @Bean
+    public SingleFlight<NewsQuery, NewsResponse> newsLoads(NewsProviderConfig config, MeterRegistry meterRegistry) {
+        NewsProviderConfig.Cache settings = config.getCache();
+        return new SingleFlight<>(ApplicationConstants.CACHE_NEWS, Duration.ofMillis(settings.getLoadMaxWait()),
+                Caffeine.newBuilder()
+                        .maximumWeight(settings.getPreviousMaxSize().toBytes())
+                        .weigher(new NewsResponseWeigher())
+                        .build(),
+                meterRegistry);
+    }
+    
     @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager("news");
+    public KeyGenerator newsQueryKeyGenerator() {
+        return new NewsQueryKeyGenerator();
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,7 @@ package com.sourav.aurora.config;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
 import java.util.Map;
 
@@ -16,12 +17,92 @@ public class NewsProviderConfig {
     
     private Map<String, String> apikeys;
     private Cache cache = new Cache();
+    private Ingest ingest = new Ingest();
+    private Dedup dedup = new Dedup();
+    private Search search = new Search();
+    private Stream stream = new Stream();
     private Scheduler scheduler = new Scheduler();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Hedging hedging = new Hedging();
+    private ProviderCache providerCache = new ProviderCache();
+    private Incremental incremental = new Incremental();
+    private Paging paging = new Paging();
     private Map<String, ProviderSettings> providers;
+    private String quotaStateFile = "provider-quota.properties"; // daily provider usage survives restarts here
     
     @Data
     public static class Cache {
         private int ttl = 3600; // 1 hour
+        private DataSize maxSize = DataSize.ofMegabytes(64); // estimated heap held by cached responses
+        private int countMaxEntries = 10000; // filters whose listing totals and versions are kept
+        private DataSize serializedMaxSize = DataSize.ofMegabytes(16); // pre-serialized JSON of cached pages
+        private DataSize gzipMinSize = DataSize.ofKilobytes(1); // smaller cached bodies are not compressed
+        private int loadMaxWait = 5000; // milliseconds a request waits for an identical load already running
+        private DataSize previousMaxSize = DataSize.ofMegabytes(16); // last loaded pages, served when a reload fails
+    }
+    
+    @Data
+    public static class Ingest {
+        private int batchSize = 50; // rows per JDBC batch and per transaction
+    }
+    
+    @Data
+    public static class Dedup {
+        private double falsePositiveRate = 0.01;
+        private long minCapacity = 100000; // lower bound for the URL filter size
+    }
+    
+    @Data
+    public static class Search {
+        private int titleWeight = 2; // term frequency weight of title tokens relative to description and source
+        private double recencyWeight = 1.0; // score added for a just-published article, halving every half-life
+        private int recencyHalfLifeHours = 24;
+        private int maxPrefixExpansions = 50; // terms the last query word may expand to
+    }
+    
+    @Data
+    public static class Stream {
+        private int bufferSize = 256; // events queued per subscriber before the oldest are dropped
+        private int historySize = 1000; // recent events kept for Last-Event-ID resume
+        private int heartbeatInterval = 15; // seconds between keep-alive comments
+    }
+    
+    @Data
+    public static class CircuitBreaker {
+        private int windowSize = 20; // most recent calls the failure and slow-call rates are taken over
+        private int minimumCalls = 5; // calls in the window before the breaker may open
+        private int failureRateThreshold = 50; // percent of failed calls that opens the breaker
+        private int slowCallThreshold = 10000; // milliseconds after which a call counts as slow
+        private int slowCallRateThreshold = 80; // percent of slow calls that opens the breaker
+        private int openDuration = 60; // seconds before an open breaker lets probe calls through
+        private int halfOpenProbes = 3; // probe calls that must all succeed to close the breaker again
+    }
+    
+    @Data
+    public static class Hedging {
+        private boolean enabled = false; // ask providers in turn, the next once the current is slower to its first page than its p95
+        private int minArticles = 20; // articles after which a hedged refresh is complete
+        private int initialDelay = 3000; // milliseconds before hedging while a provider has too few samples
+        private int minSamples = 10; // calls observed before a provider's own p95 latency is used
+        private boolean ingestLateResults = true; // let outstanding calls finish and save deduplicated, instead of cancelling
+    }
+    
+    @Data
+    public static class ProviderCache {
+        private boolean enabled = true; // revalidate provider responses with ETag/Last-Modified, honour max-age
+        private String directory = "provider-cache"; // compressed response bodies and their validators
+        private DataSize maxSize = DataSize.ofMegabytes(50); // least recently used responses are deleted beyond this
+    }
+    
+    @Data
+    public static class Incremental {
+        private boolean enabled = true; // only read articles newer than the last refresh of the same query
+        private int maxQueries = 10000; // queries whose newest article is remembered per provider
+    }
+    
+    @Data
+    public static class Paging {
+        private int window = 3; // pages of one provider requested at a time during a refresh
     }
     
     @Data
@@ -41,13 +122,29 @@ public class NewsProviderConfig {
             private boolean enabled = true;
             private String cron = "0 */30 * * * ?"; // Every 30 minutes
         }
+        
+        private int maxConcurrentJobs = 4; // jobs of one scheduled run executing at once
+        private int jitterMillis = 2000; // upper bound of the random delay before each job starts
     }
     
     @Data
     public static class ProviderSettings {
         private boolean enabled = true;
         private String baseUrl;
-        private int timeout = 30000; // 30 seconds
+        private int timeout = 30000; // 30 seconds for the whole request, body included
         private int maxArticles = 100;
+        private int maxPages = 1; // pages one refresh may read, each costing a request of the daily quota
+        private int requestsPerMinute = 60; // requests are spaced evenly at this rate
+        private int burst = 1; // requests allowed back to back before the spacing applies
+        private int dailyQuota = 100; // requests per UTC day, 0 for unlimited
+        private int reservedQuota = 10; // kept per priority level: background work stops first as the quota runs out
+        private int connectTimeout = 5000; // milliseconds to open a connection
+        private int responseTimeout = 15000; // milliseconds without response data before a request fails
+        private int maxConnections = 10; // connections in this provider's pool
+        private int pendingAcquireMaxCount = 50; // requests waiting for a connection before new ones are refused
+        private int pendingAcquireTimeout = 5000; // milliseconds a request waits for a connection
+        private int maxIdleTime = 30000; // milliseconds an idle connection is kept alive
+        private int maxLifeTime = 300000; // milliseconds before a connection is closed, picking up DNS changes
+        private boolean compression = true; // ask for gzip responses
     }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.sourav.aurora.config;
+
+import com.sourav.aurora.provider.ProviderHttpMetrics;
+import com.sourav.aurora.provider.ProviderResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * One HTTP client per provider, each with its own connection pool sized and timed from
+ * {@code news.providers.<name>}, so that a slow provider cannot hold the connections of another.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class ProviderHttpClientConfig {
+    
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(30);
+    
+    private final NewsProviderConfig config;
+    private final ProviderResponseCache responseCache;
+    private final MeterRegistry meterRegistry;
+    
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider newsApiConnectionProvider() {
+        return connectionProvider("newsapi");
+    }
+    
+    @Bean
+    public WebClient newsApiWebClient(@Qualifier("newsApiConnectionProvider") ConnectionProvider connectionProvider) {
+        return webClient("newsapi", connectionProvider);
+    }
+    
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider gnewsConnectionProvider() {
+        return connectionProvider("gnews");
+    }
+    
+    @Bean
+    public WebClient gnewsWebClient(@Qualifier("gnewsConnectionProvider") ConnectionProvider connectionProvider) {
+        return webClient("gnews", connectionProvider);
+    }
+    
+    private ConnectionProvider connectionProvider(String provider) {
+        NewsProviderConfig.ProviderSettings settings = settings(provider);
+        log.info("Configuring connection pool for {} with {} connections", provider, settings.getMaxConnections());
+        return ConnectionProvider.builder("provider-" + provider)
+                .maxConnections(settings.getMaxConnections())
+                .pendingAcquireMaxCount(settings.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(settings.getPendingAcquireTimeout()))
+                .maxIdleTime(Duration.ofMillis(settings.getMaxIdleTime()))
+                .maxLifeTime(Duration.ofMillis(settings.getMaxLifeTime()))
+                .evictInBackground(EVICTION_INTERVAL)
+                .metrics(true)
+                .build();
+    }
+    
+    private WebClient webClient(String provider, ConnectionProvider connectionProvider) {
+        NewsProviderConfig.ProviderSettings settings = settings(provider);
+        ProviderHttpMetrics metrics = new ProviderHttpMetrics(provider, meterRegistry);
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, settings.getConnectTimeout())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(Duration.ofMillis(settings.getResponseTimeout()))
+                .compress(settings.isCompression())
+                .metrics(true, () -> metrics);
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024))
+                .filter(responseCache)
+                .build();
+    }
+    
+    /**
+     * The provider's section, or the defaults when it has none: the pool is created even for a disabled provider
+     */
+    private NewsProviderConfig.ProviderSettings settings(String provider) {
+        if (config.getProviders() == null || !config.getProviders().containsKey(provider)) {
+            return new NewsProviderConfig.ProviderSettings();
+        }
+        return config.getProviders().get(provider);
+    }
+}
@@ -6,7 +6,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
 import java.util.concurrent.Executor;
@@ -42,13 +43,6 @@ public class VirtualThreadConfig {
         return new RestTemplate();
     }
     
-    @Bean
-    public WebClient webClient() {
-        return WebClient.builder()
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024))
-                .build();
-    }
-    
     @Bean(name = "newsProviderExecutor")
     public Executor newsProviderExecutor() {
         log.info("Configuring News Provider Executor with Virtual Threads");
@@ -68,6 +62,16 @@ public class VirtualThreadConfig {
         }
     }
     
+    /**
+     * Scheduler for the blocking persistence step at the end of the reactive fetch pipeline,
+     * so that JDBC work never runs on a Netty event-loop thread
+     */
+    @Bean(name = "ingestScheduler", destroyMethod = "dispose")
+    public Scheduler ingestScheduler() {
+        log.info("Configuring Ingest Scheduler with Virtual Threads");
+        return Schedulers.fromExecutorService(java.util.concurrent.Executors.newVirtualThreadPerTaskExecutor(), "ingest");
+    }
+    
     @Bean
     public com.fasterxml.jackson.databind.ObjectMapper objectMapper() {
         return new com.fasterxml.jackson.databind.ObjectMapper()
@@ -0,0 +1,28 @@
+package com.sourav.aurora.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+    
+    private final Executor virtualThreadExecutor;
+    
+    public WebMvcConfig(@Qualifier("virtualThreadExecutor") Executor virtualThreadExecutor) {
+        this.virtualThreadExecutor = virtualThreadExecutor;
+    }
+    
+    /**
+     * Streamed responses such as {@code /news/stream} are written from this executor. On virtual threads
+     * a client that reads slowly blocks only its own writer, and thousands of open streams cost no pool.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new TaskExecutorAdapter(virtualThreadExecutor));
+    }
+}
@@ -17,6 +17,8 @@ public final class ApiConstants {
     public static final String NEWS_TODAY = NEWS_BASE + "/today";
     public static final String NEWS_REFRESH = NEWS_BASE + "/refresh";
     public static final String NEWS_SEARCH = NEWS_BASE + "/search";
+    public static final String NEWS_STREAM = NEWS_BASE + "/stream";
+    public static final String NEWS_CACHE_STATS = NEWS_BASE + "/cache/stats";
     
     // Provider endpoints
     public static final String PROVIDERS_BASE = API_BASE_PATH + "/providers";
@@ -35,6 +37,9 @@ public final class ApiConstants {
     public static final String PARAM_PAGE = "page";
     public static final String PARAM_SIZE = "size";
     public static final String PARAM_SORT = "sort";
+    public static final String PARAM_CURSOR = "cursor";
+    public static final String PARAM_COUNT = "count";
+    public static final String PARAM_VIEW = "view";
     
     // Default values
     public static final int DEFAULT_PAGE = 0;
@@ -45,6 +50,7 @@ public final class ApiConstants {
     // Headers
     public static final String HEADER_CONTENT_TYPE = "Content-Type";
     public static final String HEADER_ACCEPT = "Accept";
+    public static final String HEADER_LAST_EVENT_ID = "Last-Event-ID";
     public static final String CONTENT_TYPE_JSON = "application/json";
     
     // CORS
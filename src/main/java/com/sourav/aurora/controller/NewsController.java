@@ -1,20 +1,36 @@
 package com.sourav.aurora.controller;
 
+import com.sourav.aurora.cache.ListingCountCache;
+import com.sourav.aurora.cache.ListingVersions;
+import com.sourav.aurora.cache.SerializedNewsCache;
 import com.sourav.aurora.constants.ApiConstants;
 import com.sourav.aurora.constants.ApplicationConstants;
 import com.sourav.aurora.dto.ArticleDto;
+import com.sourav.aurora.dto.ArticleView;
+import com.sourav.aurora.dto.NewsQuery;
 import com.sourav.aurora.dto.NewsResponse;
+import com.sourav.aurora.service.ArticleStreamService;
 import com.sourav.aurora.service.NewsService;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import reactor.core.publisher.Flux;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -33,10 +49,16 @@ import java.util.concurrent.CompletableFuture;
 )
 public class NewsController {
     
+    private static final String GZIP = "gzip";
+    
     private final NewsService newsService;
+    private final SerializedNewsCache serializedNewsCache;
+    private final ListingVersions listingVersions;
+    private final ListingCountCache listingCounts;
+    private final ArticleStreamService articleStreamService;
     
     @GetMapping("/news")
-    public ResponseEntity<NewsResponse> getNews(
+    public ResponseEntity<?> getNews(
             @RequestParam(name = ApiConstants.PARAM_COUNTRY, required = false) String country,
             @RequestParam(name = ApiConstants.PARAM_LANGUAGE, required = false) String language,
             @RequestParam(name = ApiConstants.PARAM_CATEGORY, required = false) String category,
@@ -44,21 +66,67 @@ public class NewsController {
             @RequestParam(name = ApiConstants.PARAM_PAGE, defaultValue = "0") 
             @Min(0) int page,
             @RequestParam(name = ApiConstants.PARAM_SIZE, defaultValue = "20") 
-            @Min(1) @Max(100) int size) {
+            @Min(1) @Max(100) int size,
+            @RequestParam(name = ApiConstants.PARAM_CURSOR, required = false) String cursor,
+            @RequestParam(name = ApiConstants.PARAM_COUNT, defaultValue = "true") boolean count,
+            @RequestParam(name = ApiConstants.PARAM_VIEW, required = false) String view,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            ServletWebRequest request) {
         
-        log.info("GET {} - country: {}, language: {}, category: {}, keyword: {}, page: {}, size: {}", 
-                ApiConstants.NEWS_BASE, country, language, category, keyword, page, size);
+        log.info("GET {} - country: {}, language: {}, category: {}, keyword: {}, page: {}, size: {}, cursor: {}, count: {}, view: {}", 
+                ApiConstants.NEWS_BASE, country, language, category, keyword, page, size, cursor, count, view);
         
-        NewsResponse response = newsService.getNews(country, language, category, keyword, page, size);
+        ArticleView articleView = ArticleView.from(view);
+        // Cached pages may be sent compressed, so caches must key on Accept-Encoding, including for a 304
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        // A count-free page gains its totals once they are counted, which makes it a different representation
+        Long knownTotal = count ? null : listingCounts.peek(country, language, category, keyword);
+        if (notModified(request, listingVersions.validator(country, language, category, keyword, 
+                page, size, cursor, count, articleView, knownTotal))) {
+            return null;
+        }
+        
+        // Passing a cursor (empty for the first page) switches to keyset pagination;
+        // count=false pages by offset but skips the count query, returning totals only when already known
+        NewsResponse response;
+        if (cursor != null) {
+            response = newsService.getNewsAfter(country, language, category, keyword, cursor, size, articleView);
+        } else if (!count) {
+            response = newsService.getNewsWithoutCount(country, language, category, keyword, page, size, articleView);
+        } else {
+            response = newsService.getNews(country, language, category, keyword, page, size, articleView);
+        }
         
         log.info(ApplicationConstants.SUCCESS_NEWS_FETCHED + " - {} articles returned", response.getArticles().size());
+        if (cursor == null && count) {
+            if (newsService.isStale(response)) {
+                // An earlier page standing in for a failed load must not be kept under the listing's current validator
+                if (request.getResponse() != null) {
+                    request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+                }
+                return ResponseEntity.ok(response);
+            }
+            // Cached pages are written from their pre-serialized bytes
+            return serialized(new NewsQuery(country, language, category, keyword, page, size, articleView), response, acceptEncoding);
+        }
         return ResponseEntity.ok(response);
     }
     
     @GetMapping("/news/today")
-    public ResponseEntity<List<ArticleDto>> getTodaysNews() {
+    public ResponseEntity<List<ArticleDto>> getTodaysNews(ServletWebRequest request) {
         log.info("GET {}", ApiConstants.NEWS_TODAY);
         
+        // The listing also changes at midnight, when yesterday's articles drop out
+        LocalDate today = LocalDate.now();
+        ListingVersions.Validator validator = listingVersions.validator(null, null, null, null, today);
+        Instant startOfDay = today.atStartOfDay(ZoneId.systemDefault()).toInstant();
+        if (notModified(request, new ListingVersions.Validator(validator.etag(), 
+                startOfDay.isAfter(validator.lastModified()) ? startOfDay : validator.lastModified()))) {
+            return null;
+        }
+        
         List<ArticleDto> articles = newsService.getTodaysNews();
         
         log.info(ApplicationConstants.SUCCESS_NEWS_FETCHED + " - {} today's articles", articles.size());
@@ -71,17 +139,55 @@ public class NewsController {
             @RequestParam(name = ApiConstants.PARAM_PAGE, defaultValue = "0") 
             @Min(0) int page,
             @RequestParam(name = ApiConstants.PARAM_SIZE, defaultValue = "20") 
-            @Min(1) @Max(100) int size) {
+            @Min(1) @Max(100) int size,
+            @RequestParam(name = ApiConstants.PARAM_CURSOR, required = false) String cursor,
+            @RequestParam(name = ApiConstants.PARAM_COUNT, defaultValue = "true") boolean count,
+            @RequestParam(name = ApiConstants.PARAM_VIEW, required = false) String view,
+            ServletWebRequest request) {
+        
+        log.info("GET {} - keyword: {}, page: {}, size: {}, cursor: {}, count: {}, view: {}", 
+                ApiConstants.NEWS_SEARCH, keyword, page, size, cursor, count, view);
         
-        log.info("GET {} - keyword: {}, page: {}, size: {}", 
-                ApiConstants.NEWS_SEARCH, keyword, page, size);
+        ArticleView articleView = ArticleView.from(view);
+        // The search runs on the trimmed query, so its version and count are tracked under the same filter
+        String query = keyword.trim();
+        Long knownTotal = count ? null : listingCounts.peek(null, null, null, query);
+        if (notModified(request, listingVersions.validator(null, null, null, query, 
+                page, size, cursor, count, articleView, knownTotal))) {
+            return null;
+        }
         
-        NewsResponse response = newsService.searchNews(keyword, page, size);
+        NewsResponse response;
+        if (cursor != null) {
+            response = newsService.searchNewsAfter(keyword, cursor, size, articleView);
+        } else if (!count) {
+            response = newsService.searchNewsWithoutCount(keyword, page, size, articleView);
+        } else {
+            response = newsService.searchNews(keyword, page, size, articleView);
+        }
         
-        log.info("Search completed - {} articles found for keyword: {}", response.getTotalElements(), keyword);
+        log.info("Search completed - {} articles returned for keyword: {}", response.getArticles().size(), keyword);
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Newly saved articles matching the filters, as Server-Sent Events. The connection stays open;
+     * writes run on virtual threads, so a waiting subscriber holds no thread.
+     */
+    @GetMapping(value = "/news/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamNews(
+            @RequestParam(name = ApiConstants.PARAM_COUNTRY, required = false) String country,
+            @RequestParam(name = ApiConstants.PARAM_LANGUAGE, required = false) String language,
+            @RequestParam(name = ApiConstants.PARAM_CATEGORY, required = false) String category,
+            @RequestParam(name = ApiConstants.PARAM_KEYWORD, required = false) String keyword,
+            @RequestHeader(name = ApiConstants.HEADER_LAST_EVENT_ID, required = false) String lastEventId) {
+        
+        log.info("GET {} - country: {}, language: {}, category: {}, keyword: {}, lastEventId: {}", 
+                ApiConstants.NEWS_STREAM, country, language, category, keyword, lastEventId);
+        
+        return articleStreamService.subscribe(NewsQuery.filter(country, language, category, keyword), lastEventId);
+    }
+    
     @PostMapping("/news/refresh")
     public ResponseEntity<Map<String, Object>> refreshNews(
             @RequestParam(name = ApiConstants.PARAM_COUNTRY, required = false) String country,
@@ -100,7 +206,7 @@ public class NewsController {
                     "message", ApplicationConstants.SUCCESS_NEWS_REFRESHED,
                     "timestamp", LocalDateTime.now()
             ));
-            
+        
         } catch (Exception e) {
             log.error(ApplicationConstants.ERROR_NEWS_REFRESH_FAILED, e);
             return ResponseEntity.internalServerError()
@@ -134,6 +240,13 @@ public class NewsController {
         }
     }
     
+    @GetMapping("/news/cache/stats")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        log.info("GET {}", ApiConstants.NEWS_CACHE_STATS);
+        
+        return ResponseEntity.ok(newsService.getCacheStatistics());
+    }
+    
     @GetMapping("/providers")
     public ResponseEntity<Map<String, Object>> getProviders() {
         log.info("GET {}", ApiConstants.PROVIDERS_BASE);
@@ -171,6 +284,8 @@ public class NewsController {
                 "providers", allProviders,
                 "activeCount", activeProviders.size(),
                 "totalCount", allProviders.size(),
+                "health", newsService.getProviderHealthStatus(),
+                "quota", newsService.getProviderQuotaStatus(),
                 "timestamp", LocalDateTime.now()
         ));
     }
@@ -200,4 +315,66 @@ public class NewsController {
                 "uptime", java.lang.management.ManagementFactory.getRuntimeMXBean().getUptime()
         ));
     }
-}
\ No newline at end of file
+    
+    /**
+     * Answers 304 when the client's If-None-Match or If-Modified-Since still matches the listing's
+     * validator; otherwise the ETag and Last-Modified headers are added to the full response.
+     * {@code no-cache} makes clients revalidate instead of guessing a freshness lifetime from Last-Modified.
+     */
+    private static boolean notModified(ServletWebRequest request, ListingVersions.Validator validator) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        }
+        if (request.checkNotModified(validator.etag(), validator.lastModified().toEpochMilli())) {
+            log.debug("Not modified - {}", validator.etag());
+            return true;
+        }
+        return false;
+    }
+    
+    private ResponseEntity<byte[]> serialized(NewsQuery key, NewsResponse response, String acceptEncoding) {
+        SerializedNewsCache.SerializedResponse body = serializedNewsCache.get(key, response);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON);
+        if (body.gzip() != null && acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(body.gzip());
+        }
+        return builder.body(body.json());
+    }
+    
+    /**
+     * Whether Accept-Encoding allows gzip: listed with a non-zero q-value, or covered by a non-zero {@code *}
+     * without being listed. An explicit {@code gzip;q=0} refuses it even when {@code *} is accepted.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().toLowerCase(Locale.ROOT);
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equals(GZIP) || name.equals("x-gzip")) {
+                gzip = gzip == null ? quality : Math.max(gzip, quality);
+            } else if (name.equals("*")) {
+                any = quality;
+            }
+        }
+        if (gzip != null) {
+            return gzip > 0;
+        }
+        return any != null && any > 0;
+    }
+}
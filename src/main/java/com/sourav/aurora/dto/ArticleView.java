@@ -0,0 +1,25 @@
+package com.sourav.aurora.dto;
+
+import java.util.Locale;
+
+/**
+ * Shape of the articles in a listing: every field, or only what a news card shows
+ */
+public enum ArticleView {
+    FULL,
+    COMPACT;
+    
+    /**
+     * Parse the {@code view} request parameter case-insensitively; a missing value means the full view
+     */
+    public static ArticleView from(String value) {
+        if (value == null || value.isBlank()) {
+            return FULL;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown view '" + value + "', expected compact or full");
+        }
+    }
+}
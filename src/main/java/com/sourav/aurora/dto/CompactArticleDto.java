@@ -0,0 +1,25 @@
+package com.sourav.aurora.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Article as listed on a news card. Read straight from the selected columns without loading the entity;
+ * {@code summary} is a short teaser cut from the summary, or from the description when there is none.
+ */
+public record CompactArticleDto(
+        Long id,
+        String title,
+        String summary,
+        String url,
+        String source,
+        String category,
+        String country,
+        LocalDateTime publishedAt,
+        LocalDateTime fetchedAt,
+        String imageUrl) {
+    
+    /**
+     * Characters of summary or description kept in the teaser
+     */
+    public static final int TEASER_LENGTH = 200;
+}
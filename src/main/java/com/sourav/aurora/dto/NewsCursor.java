@@ -0,0 +1,40 @@
+package com.sourav.aurora.dto;
+
+import com.sourav.aurora.model.Article;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last article of a page in {@code (publishedAt, fetchedAt, id)} descending order.
+ * Clients receive it as an opaque URL-safe token and send it back to continue after that row.
+ */
+public record NewsCursor(LocalDateTime publishedAt, LocalDateTime fetchedAt, long id) {
+    
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+    
+    public static NewsCursor after(Article article) {
+        return new NewsCursor(article.getPublishedAt(), article.getFetchedAt(), article.getId());
+    }
+    
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION, publishedAt.toString(), fetchedAt.toString(), Long.toString(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static NewsCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new NewsCursor(LocalDateTime.parse(parts[1]), LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.sourav.aurora.dto;
+
+import com.sourav.aurora.index.TextAnalyzer;
+import com.sourav.aurora.model.Article;
+
+import java.util.Locale;
+
+/**
+ * Filter, paging and view parameters of a news listing; used as the news cache key
+ */
+public record NewsQuery(String country, String language, String category, String keyword, int page, int size, ArticleView view) {
+    
+    /**
+     * Filters only, for state kept per filtered listing rather than per page
+     */
+    public static NewsQuery filter(String country, String language, String category, String keyword) {
+        return new NewsQuery(country, language, category, keyword, 0, 0, null);
+    }
+    
+    /**
+     * Whether the article could satisfy this query's filters, under either the search index's term rules
+     * or the substring rules of {@code ArticleRepository.findArticlesWithFilters}
+     */
+    public boolean matches(Article article) {
+        return (country == null || country.equals(article.getCountry()))
+                && (language == null || language.equals(article.getLanguage()))
+                && (category == null || category.equals(article.getCategory()))
+                && (keyword == null || TextAnalyzer.matches(keyword, article.getTitle(), article.getDescription(), article.getSource())
+                        || containsIgnoreCase(article.getTitle(), keyword)
+                        || containsIgnoreCase(article.getDescription(), keyword));
+    }
+    
+    private static boolean containsIgnoreCase(String text, String keyword) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(keyword.toLowerCase(Locale.ROOT));
+    }
+}
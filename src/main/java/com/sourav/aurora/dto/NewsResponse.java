@@ -1,5 +1,6 @@
 package com.sourav.aurora.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,14 +12,16 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class NewsResponse {
-    private List<ArticleDto> articles;
-    private int totalPages;
-    private long totalElements;
-    private int currentPage;
+    private List<?> articles; // ArticleDto, or CompactArticleDto in the compact view
+    private Integer totalPages; // null in cursor mode
+    private Long totalElements; // null in cursor mode
+    private Integer currentPage; // null in cursor mode
     private int pageSize;
     private boolean hasNext;
     private boolean hasPrevious;
+    private String nextCursor; // set in cursor mode when more articles follow
     private List<String> availableCountries;
     private List<String> availableLanguages;
     private List<String> availableCategories;
@@ -0,0 +1,13 @@
+package com.sourav.aurora.event;
+
+import com.sourav.aurora.repository.FacetBreakdown;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Published after the retention cleanup removed articles fetched before the cutoff,
+ * with the facet values of the removed rows counted just before the delete
+ */
+public record ArticlesPurgedEvent(LocalDateTime cutoff, int deletedCount, List<FacetBreakdown> facets) {
+}
@@ -0,0 +1,11 @@
+package com.sourav.aurora.event;
+
+import com.sourav.aurora.model.Article;
+
+import java.util.List;
+
+/**
+ * Published after newly ingested articles have been committed
+ */
+public record ArticlesSavedEvent(List<Article> articles) {
+}
@@ -0,0 +1,167 @@
+package com.sourav.aurora.index;
+
+import com.sourav.aurora.config.NewsProviderConfig;
+import com.sourav.aurora.event.ArticlesPurgedEvent;
+import com.sourav.aurora.event.ArticlesSavedEvent;
+import com.sourav.aurora.model.Article;
+import com.sourav.aurora.repository.ArticleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Probabilistic membership filter over stored article URLs.
+ * A negative answer proves the URL is new, so only possible members have to be confirmed against the table.
+ */
+@Component
+@Slf4j
+public class ArticleUrlFilter {
+    
+    private final ArticleRepository articleRepository;
+    private final NewsProviderConfig config;
+    private final AtomicBoolean rebuildInProgress = new AtomicBoolean();
+    private final Object swapLock = new Object();
+    private final Counter negativeLookups;
+    private final Counter positiveLookups;
+    private final Counter falsePositives;
+    
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding;
+    
+    public ArticleUrlFilter(ArticleRepository articleRepository, NewsProviderConfig config, MeterRegistry meterRegistry) {
+        this.articleRepository = articleRepository;
+        this.config = config;
+        this.negativeLookups = Counter.builder("aurora.dedup.filter.lookups")
+                .tag("result", "negative")
+                .description("URLs the filter proved to be new")
+                .register(meterRegistry);
+        this.positiveLookups = Counter.builder("aurora.dedup.filter.lookups")
+                .tag("result", "positive")
+                .description("URLs the filter could not rule out")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("aurora.dedup.filter.false.positives")
+                .description("Positive lookups that turned out not to be stored")
+                .register(meterRegistry);
+        Gauge.builder("aurora.dedup.filter.memory", this, f -> f.filter != null ? f.filter.memoryBytes() : 0)
+                .baseUnit("bytes")
+                .description("Size of the filter bit array")
+                .register(meterRegistry);
+        Gauge.builder("aurora.dedup.filter.fpp.expected", this, f -> f.filter != null ? f.filter.expectedFpp() : 0)
+                .description("Theoretical false-positive probability at the current fill level")
+                .register(meterRegistry);
+        Gauge.builder("aurora.dedup.filter.fpp.observed", this, ArticleUrlFilter::observedFalsePositiveRate)
+                .description("False positives over all lookups of URLs that were not stored")
+                .register(meterRegistry);
+        Gauge.builder("aurora.dedup.filter.insertions", this, f -> f.filter != null ? f.filter.insertions() : 0)
+                .description("URLs recorded in the filter")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * False when the URL is definitely not stored. Until the first build completes every URL is a possible member.
+     */
+    public boolean mightContain(String url) {
+        BloomFilter current = filter;
+        if (current == null || current.mightContain(url)) {
+            positiveLookups.increment();
+            return true;
+        }
+        negativeLookups.increment();
+        return false;
+    }
+    
+    /**
+     * Record how many possible members were confirmed to exist, to track the observed false-positive rate
+     */
+    public void recordConfirmations(int possibleMembers, int confirmedMembers) {
+        if (filter != null && possibleMembers > confirmedMembers) {
+            falsePositives.increment(possibleMembers - confirmedMembers);
+        }
+    }
+    
+    public void put(String url) {
+        // Read both filters together: a put seeing the old filter must also see the one being rebuilt
+        BloomFilter current;
+        BloomFilter next;
+        synchronized (swapLock) {
+            current = filter;
+            next = rebuilding;
+        }
+        if (current != null) {
+            current.put(url);
+        }
+        if (next != null) {
+            next.put(url);
+        }
+        if (current != null && current.insertions() > current.expectedInsertions() && !rebuildInProgress.get()) {
+            log.info("URL filter reached its expected capacity of {} entries, resizing", current.expectedInsertions());
+            Thread.ofVirtual().name("url-filter-rebuild").start(this::rebuild);
+        }
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesSaved(ArticlesSavedEvent event) {
+        for (Article article : event.articles()) {
+            put(article.getUrl());
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesPurged(ArticlesPurgedEvent event) {
+        // Bloom filters cannot forget entries, so start over from the rows that survived retention
+        if (event.deletedCount() > 0) {
+            rebuild();
+        }
+    }
+    
+    /**
+     * Rebuild the filter from the table, sized from the current row count.
+     * URLs inserted while the table is being scanned are written to both filters, so none are lost on swap;
+     * URLs inserted before the scan starts are already committed rows and are read by the scan.
+     */
+    public void rebuild() {
+        if (!rebuildInProgress.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            NewsProviderConfig.Dedup settings = config.getDedup();
+            long expected = Math.max(settings.getMinCapacity(), articleRepository.count() * 2);
+            BloomFilter next = BloomFilter.create(expected, settings.getFalsePositiveRate());
+            synchronized (swapLock) {
+                rebuilding = next;
+            }
+            articleRepository.forEachUrl(next::put);
+            synchronized (swapLock) {
+                filter = next;
+                rebuilding = null;
+            }
+            log.info("URL filter rebuilt with {} entries ({} KB, expected capacity {})",
+                    next.insertions(), next.memoryBytes() / 1024, expected);
+        } catch (Exception e) {
+            log.error("Failed to rebuild URL filter, keeping the previous one", e);
+        } finally {
+            synchronized (swapLock) {
+                rebuilding = null;
+            }
+            rebuildInProgress.set(false);
+        }
+    }
+    
+    private double observedFalsePositiveRate() {
+        double fp = falsePositives.count();
+        double absent = fp + negativeLookups.count();
+        return absent == 0 ? 0 : fp / absent;
+    }
+}
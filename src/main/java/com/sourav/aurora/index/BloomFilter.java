@@ -0,0 +1,109 @@
+package com.sourav.aurora.index;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free Bloom filter over strings. Answers "definitely absent" or "possibly present".
+ */
+final class BloomFilter {
+    
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final long expectedInsertions;
+    private final LongAdder insertions = new LongAdder();
+    
+    private BloomFilter(long expectedInsertions, long bitCount, int hashFunctions) {
+        this.expectedInsertions = expectedInsertions;
+        this.bitCount = bitCount;
+        this.hashFunctions = hashFunctions;
+        this.words = new AtomicLongArray((int) ((bitCount + 63) >>> 6));
+    }
+    
+    /**
+     * Size the filter for the expected number of insertions at the target false-positive probability
+     */
+    static BloomFilter create(long expectedInsertions, double fpp) {
+        long n = Math.max(1, expectedInsertions);
+        long m = Math.max(64, (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new BloomFilter(n, m, k);
+    }
+    
+    boolean put(String value) {
+        long hash1 = hash(value, 0xcbf29ce484222325L);
+        long hash2 = hash(value, 0x84222325cbf29ce4L);
+        boolean changed = false;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            changed |= setBit(bit);
+        }
+        if (changed) {
+            insertions.increment();
+        }
+        return changed;
+    }
+    
+    boolean mightContain(String value) {
+        long hash1 = hash(value, 0xcbf29ce484222325L);
+        long hash2 = hash(value, 0x84222325cbf29ce4L);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Theoretical false-positive probability at the current fill level
+     */
+    double expectedFpp() {
+        return Math.pow(1 - Math.exp(-(double) hashFunctions * insertions.sum() / bitCount), hashFunctions);
+    }
+    
+    long memoryBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+    
+    long insertions() {
+        return insertions.sum();
+    }
+    
+    long expectedInsertions() {
+        return expectedInsertions;
+    }
+    
+    private boolean setBit(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        while (true) {
+            long word = words.get(index);
+            if ((word & mask) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(index, word, word | mask)) {
+                return true;
+            }
+        }
+    }
+    
+    /**
+     * FNV-1a over UTF-16 code units followed by the MurmurHash3 finalizer
+     */
+    private static long hash(String value, long seed) {
+        long h = seed;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
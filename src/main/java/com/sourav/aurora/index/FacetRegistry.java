@@ -0,0 +1,164 @@
+package com.sourav.aurora.index;
+
+import com.sourav.aurora.event.ArticlesPurgedEvent;
+import com.sourav.aurora.event.ArticlesSavedEvent;
+import com.sourav.aurora.model.Article;
+import com.sourav.aurora.repository.ArticleRepository;
+import com.sourav.aurora.repository.FacetBreakdown;
+import com.sourav.aurora.repository.FacetCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Distinct countries, languages, categories and sources of stored articles, reference-counted per value.
+ * Reads return a prebuilt sorted snapshot; the counts change only when articles are saved or purged.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FacetRegistry {
+    
+    private final ArticleRepository articleRepository;
+    
+    private final Facet countries = new Facet();
+    private final Facet languages = new Facet();
+    private final Facet categories = new Facet();
+    private final Facet sources = new Facet();
+    private volatile boolean loaded;
+    
+    public List<String> countries() {
+        ensureLoaded();
+        return countries.values;
+    }
+    
+    public List<String> languages() {
+        ensureLoaded();
+        return languages.values;
+    }
+    
+    public List<String> categories() {
+        ensureLoaded();
+        return categories.values;
+    }
+    
+    public List<String> sources() {
+        ensureLoaded();
+        return sources.values;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+    
+    /**
+     * Runs ahead of cache invalidation so that pages recomputed after an eviction already see the new values
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public synchronized void onArticlesSaved(ArticlesSavedEvent event) {
+        if (!loaded) {
+            // The initial load reads the committed rows, these included
+            return;
+        }
+        for (Article article : event.articles()) {
+            countries.add(article.getCountry());
+            languages.add(article.getLanguage());
+            categories.add(article.getCategory());
+            sources.add(article.getSource());
+        }
+        countries.publish();
+        languages.publish();
+        categories.publish();
+        sources.publish();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public synchronized void onArticlesPurged(ArticlesPurgedEvent event) {
+        if (!loaded || event.deletedCount() == 0) {
+            return;
+        }
+        for (FacetBreakdown row : event.facets()) {
+            countries.remove(row.getCountry(), row.getArticleCount());
+            languages.remove(row.getLanguage(), row.getArticleCount());
+            categories.remove(row.getCategory(), row.getArticleCount());
+            sources.remove(row.getSource(), row.getArticleCount());
+        }
+        countries.publish();
+        languages.publish();
+        categories.publish();
+        sources.publish();
+    }
+    
+    /**
+     * Recount every facet from the table with one GROUP BY query per facet
+     */
+    public synchronized void reload() {
+        countries.reset(articleRepository.countByCountry());
+        languages.reset(articleRepository.countByLanguage());
+        categories.reset(articleRepository.countByCategory());
+        sources.reset(articleRepository.countBySource());
+        loaded = true;
+        log.info("Facet registry loaded - countries: {}, languages: {}, categories: {}, sources: {}", 
+                countries.values.size(), languages.values.size(), categories.values.size(), sources.values.size());
+    }
+    
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+    
+    /**
+     * Counts are only mutated while holding the registry lock; readers see the volatile sorted snapshot
+     */
+    private static final class Facet {
+        
+        private final Map<String, Long> counts = new HashMap<>();
+        private volatile List<String> values = List.of();
+        private boolean changed;
+        
+        void reset(List<FacetCount> rows) {
+            counts.clear();
+            for (FacetCount row : rows) {
+                counts.put(row.getName(), row.getArticleCount());
+            }
+            changed = true;
+            publish();
+        }
+        
+        void add(String value) {
+            if (value != null && counts.merge(value, 1L, Long::sum) == 1L) {
+                changed = true;
+            }
+        }
+        
+        void remove(String value, long count) {
+            if (value != null && counts.computeIfPresent(value, (key, current) -> current > count ? current - count : null) == null) {
+                changed = true;
+            }
+        }
+        
+        void publish() {
+            if (changed) {
+                values = counts.keySet().stream().sorted().toList();
+                changed = false;
+            }
+        }
+    }
+}
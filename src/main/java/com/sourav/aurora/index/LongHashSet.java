@@ -0,0 +1,67 @@
+package com.sourav.aurora.index;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing set of positive longs without boxing; 0 marks an empty slot
+ */
+final class LongHashSet {
+    
+    private long[] slots = new long[1024];
+    private int size;
+    
+    boolean add(long value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("Only positive values are supported: " + value);
+        }
+        if ((size + 1) * 2 > slots.length) {
+            resize(slots.length * 2);
+        }
+        int index = indexOf(slots, value);
+        if (slots[index] == value) {
+            return false;
+        }
+        slots[index] = value;
+        size++;
+        return true;
+    }
+    
+    boolean contains(long value) {
+        return value > 0 && slots[indexOf(slots, value)] == value;
+    }
+    
+    void clear() {
+        Arrays.fill(slots, 0);
+        size = 0;
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    private void resize(int capacity) {
+        long[] resized = new long[capacity];
+        for (long value : slots) {
+            if (value != 0) {
+                resized[indexOf(resized, value)] = value;
+            }
+        }
+        slots = resized;
+    }
+    
+    private static int indexOf(long[] table, long value) {
+        int mask = table.length - 1;
+        int index = (int) (mix(value) & mask);
+        while (table[index] != 0 && table[index] != value) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+    
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        return value;
+    }
+}
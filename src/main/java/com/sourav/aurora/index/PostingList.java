@@ -0,0 +1,62 @@
+package com.sourav.aurora.index;
+
+import java.util.Arrays;
+
+/**
+ * Ascending document ids with their term frequencies. Documents are appended in id order,
+ * so lookups are binary searches.
+ */
+final class PostingList {
+    
+    private static final int MAX_FREQUENCY = 255;
+    
+    private int[] docs = new int[4];
+    private byte[] frequencies = new byte[4];
+    private int size;
+    
+    void add(int doc, int frequency) {
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+            frequencies = Arrays.copyOf(frequencies, size * 2);
+        }
+        docs[size] = doc;
+        frequencies[size] = (byte) Math.min(frequency, MAX_FREQUENCY);
+        size++;
+    }
+    
+    /**
+     * Term frequency in the document, or 0 when the document is not in the list
+     */
+    int frequency(int doc) {
+        int index = Arrays.binarySearch(docs, 0, size, doc);
+        return index >= 0 ? frequencies[index] & 0xff : 0;
+    }
+    
+    int doc(int index) {
+        return docs[index];
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    /**
+     * Drop removed documents and renumber the rest; the mapping must preserve order
+     */
+    void remap(int[] newIds) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int newId = newIds[docs[i]];
+            if (newId >= 0) {
+                docs[kept] = newId;
+                frequencies[kept] = frequencies[i];
+                kept++;
+            }
+        }
+        size = kept;
+        if (size < docs.length / 4) {
+            docs = Arrays.copyOf(docs, Math.max(4, size));
+            frequencies = Arrays.copyOf(frequencies, Math.max(4, size));
+        }
+    }
+}
@@ -0,0 +1,547 @@
+package com.sourav.aurora.index;
+
+import com.sourav.aurora.config.NewsProviderConfig;
+import com.sourav.aurora.dto.NewsCursor;
+import com.sourav.aurora.event.ArticlesPurgedEvent;
+import com.sourav.aurora.event.ArticlesSavedEvent;
+import com.sourav.aurora.model.Article;
+import com.sourav.aurora.repository.ArticleRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * In-process inverted index over article title, description and source.
+ * Queries require every term (the last one may be a prefix), are ranked by BM25 plus a recency boost,
+ * and apply country/language/category filters as posting-list intersections.
+ */
+@Component
+@Slf4j
+public class SearchIndex {
+    
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    
+    private final ArticleRepository articleRepository;
+    private final NewsProviderConfig config;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // Guarded by lock
+    private final TreeMap<String, PostingList> terms = new TreeMap<>();
+    private final Map<String, PostingList> filters = new HashMap<>();
+    private final LongHashSet indexedArticles = new LongHashSet();
+    private long[] articleIds = new long[1024];
+    private long[] fetchedAt = new long[1024];
+    private long[] publishedAt = new long[1024];
+    private int[] lengths = new int[1024];
+    private int docCount;
+    private long totalLength;
+    private long purgedBefore = Long.MIN_VALUE;
+    
+    private volatile boolean ready;
+    
+    public SearchIndex(ArticleRepository articleRepository, NewsProviderConfig config, MeterRegistry meterRegistry) {
+        this.articleRepository = articleRepository;
+        this.config = config;
+        Gauge.builder("aurora.search.index.documents", this, SearchIndex::documentCount)
+                .description("Articles in the search index")
+                .register(meterRegistry);
+        Gauge.builder("aurora.search.index.terms", this, SearchIndex::termCount)
+                .description("Distinct terms in the search index")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Ranked article ids for one page of results, and the number of articles matching in total
+     */
+    public record SearchResult(List<Long> articleIds, long totalMatches) {
+        
+        static final SearchResult EMPTY = new SearchResult(List.of(), 0);
+    }
+    
+    /**
+     * True once the stored articles have been loaded and the query has at least one indexable term
+     */
+    public boolean canSearch(String query) {
+        return ready && !TextAnalyzer.tokenize(query).isEmpty();
+    }
+    
+    public SearchResult search(String query, String country, String language, String category, int page, int size) {
+        List<String> queryTerms = TextAnalyzer.tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return SearchResult.EMPTY;
+        }
+        
+        lock.readLock().lock();
+        try {
+            List<Clause> clauses = clauses(queryTerms, country, language, category);
+            if (clauses == null) {
+                return SearchResult.EMPTY;
+            }
+            
+            return rank(clauses, page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Matching article ids in listing order (publishedAt, fetchedAt, id descending) that come strictly after the
+     * cursor position, for keyset pagination of search results. Relevance is not used in this mode.
+     */
+    public List<Long> searchAfter(String query, String country, String language, String category, NewsCursor after, int limit) {
+        List<String> queryTerms = TextAnalyzer.tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+        
+        lock.readLock().lock();
+        try {
+            List<Clause> clauses = clauses(queryTerms, country, language, category);
+            if (clauses == null) {
+                return List.of();
+            }
+            
+            long afterPublished = after == null ? Long.MAX_VALUE : toMicros(after.publishedAt());
+            long afterFetched = after == null ? Long.MAX_VALUE : toMicros(after.fetchedAt());
+            long afterId = after == null ? Long.MAX_VALUE : after.id();
+            Comparator<Integer> byListing = Comparator.<Integer>comparingLong(doc -> publishedAt[doc])
+                    .thenComparingLong(doc -> fetchedAt[doc])
+                    .thenComparingLong(doc -> articleIds[doc]);
+            PriorityQueue<Integer> top = new PriorityQueue<>(Math.min(limit, 1024), byListing);
+            
+            for (int doc : smallest(clauses).docs()) {
+                if (!isBefore(doc, afterPublished, afterFetched, afterId) || !matchesAll(clauses, doc)) {
+                    continue;
+                }
+                if (top.size() < limit) {
+                    top.add(doc);
+                } else if (byListing.compare(doc, top.peek()) > 0) {
+                    top.poll();
+                    top.add(doc);
+                }
+            }
+            
+            List<Integer> ordered = new ArrayList<>(top);
+            ordered.sort(byListing.reversed());
+            return ordered.stream().map(doc -> articleIds[doc]).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Thread.ofVirtual().name("search-index-load").start(this::load);
+    }
+    
+    /**
+     * Ordered ahead of {@code ListingVersions}, which must not move a listing to a new version before
+     * the index can answer for it
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void onArticlesSaved(ArticlesSavedEvent event) {
+        index(event.articles());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void onArticlesPurged(ArticlesPurgedEvent event) {
+        if (event.deletedCount() > 0) {
+            prune(event.cutoff());
+        }
+    }
+    
+    /**
+     * Stream every stored article into the index. Articles indexed from save events in the meantime are skipped,
+     * and so are rows read before a concurrent purge deleted them.
+     */
+    public void load() {
+        long start = System.nanoTime();
+        try {
+            List<Article> chunk = new ArrayList<>(LOAD_CHUNK_SIZE);
+            articleRepository.forEachArticle(article -> {
+                chunk.add(article);
+                if (chunk.size() == LOAD_CHUNK_SIZE) {
+                    index(chunk);
+                    chunk.clear();
+                }
+            });
+            index(chunk);
+            ready = true;
+            log.info("Search index loaded {} articles with {} terms in {} ms",
+                    documentCount(), termCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            log.error("Failed to load search index, keyword queries stay on the database", e);
+        }
+    }
+    
+    /**
+     * Add articles to the index, except those fetched before the last purge cutoff: a chunk of the initial load
+     * may have been read before the purge and reach the index after it. Tokenization happens before taking the write lock.
+     */
+    void index(List<Article> articles) {
+        if (articles.isEmpty()) {
+            return;
+        }
+        int titleWeight = config.getSearch().getTitleWeight();
+        List<Map<String, Integer>> termFrequencies = new ArrayList<>(articles.size());
+        for (Article article : articles) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            TextAnalyzer.forEachToken(article.getTitle(), token -> frequencies.merge(token, titleWeight, Integer::sum));
+            TextAnalyzer.forEachToken(article.getDescription(), token -> frequencies.merge(token, 1, Integer::sum));
+            TextAnalyzer.forEachToken(article.getSource(), token -> frequencies.merge(token, 1, Integer::sum));
+            termFrequencies.add(frequencies);
+        }
+        
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < articles.size(); i++) {
+                Article article = articles.get(i);
+                if (article.getId() == null || toMicros(article.getFetchedAt()) < purgedBefore
+                        || !indexedArticles.add(article.getId())) {
+                    continue;
+                }
+                add(article, termFrequencies.get(i));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Remove articles fetched before the cutoff and renumber the remaining documents in their original order
+     */
+    void prune(LocalDateTime cutoff) {
+        long cutoffMicros = toMicros(cutoff);
+        lock.writeLock().lock();
+        try {
+            purgedBefore = Math.max(purgedBefore, cutoffMicros);
+            int[] newIds = new int[docCount];
+            int kept = 0;
+            totalLength = 0;
+            indexedArticles.clear();
+            for (int doc = 0; doc < docCount; doc++) {
+                if (fetchedAt[doc] < cutoffMicros) {
+                    newIds[doc] = -1;
+                    continue;
+                }
+                newIds[doc] = kept;
+                articleIds[kept] = articleIds[doc];
+                fetchedAt[kept] = fetchedAt[doc];
+                publishedAt[kept] = publishedAt[doc];
+                lengths[kept] = lengths[doc];
+                totalLength += lengths[doc];
+                indexedArticles.add(articleIds[doc]);
+                kept++;
+            }
+            int removed = docCount - kept;
+            docCount = kept;
+            
+            remapAll(terms.values().iterator(), newIds);
+            remapAll(filters.values().iterator(), newIds);
+            log.info("Search index pruned {} articles fetched before {}, {} remain", removed, cutoff, docCount);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void add(Article article, Map<String, Integer> frequencies) {
+        if (docCount == articleIds.length) {
+            int capacity = docCount * 2;
+            articleIds = Arrays.copyOf(articleIds, capacity);
+            fetchedAt = Arrays.copyOf(fetchedAt, capacity);
+            publishedAt = Arrays.copyOf(publishedAt, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+        int doc = docCount++;
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            terms.computeIfAbsent(entry.getKey(), term -> new PostingList()).add(doc, entry.getValue());
+            length += entry.getValue();
+        }
+        articleIds[doc] = article.getId();
+        fetchedAt[doc] = toMicros(article.getFetchedAt());
+        publishedAt[doc] = toMicros(article.getPublishedAt());
+        lengths[doc] = length;
+        totalLength += length;
+        
+        addFilter(filterKey("country", article.getCountry()), doc);
+        addFilter(filterKey("language", article.getLanguage()), doc);
+        addFilter(filterKey("category", article.getCategory()), doc);
+    }
+    
+    private void addFilter(String key, int doc) {
+        if (key != null) {
+            filters.computeIfAbsent(key, k -> new PostingList()).add(doc, 1);
+        }
+    }
+    
+    /**
+     * One clause per query term and per filter, or null when one of them matches nothing
+     */
+    private List<Clause> clauses(List<String> queryTerms, String country, String language, String category) {
+        List<Clause> clauses = new ArrayList<>();
+        for (int i = 0; i < queryTerms.size(); i++) {
+            boolean last = i == queryTerms.size() - 1;
+            List<PostingList> lists = last ? expand(queryTerms.get(i)) : single(terms.get(queryTerms.get(i)));
+            if (lists.isEmpty()) {
+                return null;
+            }
+            clauses.add(new Clause(lists, true));
+        }
+        for (String key : new String[] {filterKey("country", country), filterKey("language", language), filterKey("category", category)}) {
+            if (key != null) {
+                PostingList list = filters.get(key);
+                if (list == null) {
+                    return null;
+                }
+                clauses.add(new Clause(List.of(list), false));
+            }
+        }
+        return clauses;
+    }
+    
+    private static Clause smallest(List<Clause> clauses) {
+        return clauses.stream().min(Comparator.comparingLong(Clause::size)).orElseThrow();
+    }
+    
+    private boolean matchesAll(List<Clause> clauses, int doc) {
+        for (Clause clause : clauses) {
+            if (!clause.contains(doc)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isBefore(int doc, long afterPublished, long afterFetched, long afterId) {
+        if (publishedAt[doc] != afterPublished) {
+            return publishedAt[doc] < afterPublished;
+        }
+        if (fetchedAt[doc] != afterFetched) {
+            return fetchedAt[doc] < afterFetched;
+        }
+        return articleIds[doc] < afterId;
+    }
+    
+    /**
+     * Drive the intersection from the smallest clause and probe the others by binary search,
+     * keeping only the best (page + 1) * size hits in a min-heap
+     */
+    private SearchResult rank(List<Clause> clauses, int page, int size) {
+        NewsProviderConfig.Search settings = config.getSearch();
+        double averageLength = docCount == 0 ? 1 : Math.max(1, (double) totalLength / docCount);
+        double recencyWeight = settings.getRecencyWeight();
+        double halfLifeMicros = TimeUnit.HOURS.toMicros(Math.max(1, settings.getRecencyHalfLifeHours()));
+        long now = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        
+        Clause driver = smallest(clauses);
+        int limit = (int) Math.min(Integer.MAX_VALUE, (long) (page + 1) * size);
+        Comparator<Hit> byRank = Comparator.comparingDouble(Hit::score).thenComparingLong(hit -> publishedAt[hit.doc()]);
+        PriorityQueue<Hit> top = new PriorityQueue<>(Math.min(limit, 1024), byRank);
+        long matches = 0;
+        
+        for (int doc : driver.docs()) {
+            double score = 0;
+            boolean matched = true;
+            for (Clause clause : clauses) {
+                double clauseScore = clause.score(doc, averageLength);
+                if (clauseScore < 0) {
+                    matched = false;
+                    break;
+                }
+                score += clauseScore;
+            }
+            if (!matched) {
+                continue;
+            }
+            
+            matches++;
+            double ageMicros = Math.max(0, now - publishedAt[doc]);
+            Hit hit = new Hit(doc, score + recencyWeight * Math.pow(0.5, ageMicros / halfLifeMicros));
+            if (top.size() < limit) {
+                top.add(hit);
+            } else if (byRank.compare(hit, top.peek()) > 0) {
+                top.poll();
+                top.add(hit);
+            }
+        }
+        
+        List<Hit> ranked = new ArrayList<>(top);
+        ranked.sort(byRank.reversed());
+        List<Long> ids = new ArrayList<>(size);
+        for (int i = page * size; i < ranked.size(); i++) {
+            ids.add(articleIds[ranked.get(i).doc()]);
+        }
+        return new SearchResult(ids, matches);
+    }
+    
+    /**
+     * Exact postings of the term plus, once the term is long enough, those of the most frequent terms it prefixes
+     */
+    private List<PostingList> expand(String term) {
+        if (term.length() < TextAnalyzer.MIN_PREFIX_LENGTH) {
+            return single(terms.get(term));
+        }
+        SortedMap<String, PostingList> prefixed = terms.subMap(term, term + Character.MAX_VALUE);
+        List<PostingList> lists = new ArrayList<>(prefixed.values());
+        int maxExpansions = config.getSearch().getMaxPrefixExpansions();
+        if (lists.size() > maxExpansions) {
+            PostingList exact = terms.get(term);
+            lists.sort(Comparator.comparingInt(PostingList::size).reversed());
+            lists = new ArrayList<>(lists.subList(0, maxExpansions));
+            if (exact != null && !lists.contains(exact)) {
+                lists.set(maxExpansions - 1, exact);
+            }
+        }
+        return lists;
+    }
+    
+    private static List<PostingList> single(PostingList list) {
+        return list == null ? List.of() : List.of(list);
+    }
+    
+    private static void remapAll(Iterator<PostingList> lists, int[] newIds) {
+        while (lists.hasNext()) {
+            PostingList list = lists.next();
+            list.remap(newIds);
+            if (list.size() == 0) {
+                lists.remove();
+            }
+        }
+    }
+    
+    private static String filterKey(String field, String value) {
+        return value == null ? null : field + ':' + value;
+    }
+    
+    /**
+     * Microsecond precision, rounded the way the database stores timestamps, so positions taken from
+     * loaded rows compare exactly against values indexed from freshly saved entities
+     */
+    private static long toMicros(LocalDateTime time) {
+        if (time == null) {
+            return 0;
+        }
+        Instant instant = time.atZone(ZoneId.systemDefault()).toInstant();
+        return TimeUnit.SECONDS.toMicros(instant.getEpochSecond()) + (instant.getNano() + 500) / 1000;
+    }
+    
+    private long documentCount() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private long termCount() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private record Hit(int doc, double score) {
+    }
+    
+    /**
+     * A required term (one or more postings when expanded from a prefix) or a filter.
+     * Scores are negative when the document does not satisfy the clause.
+     */
+    private final class Clause {
+        
+        private final List<PostingList> lists;
+        private final double[] idf;
+        private final boolean scored;
+        
+        Clause(List<PostingList> lists, boolean scored) {
+            this.lists = lists;
+            this.scored = scored;
+            this.idf = new double[lists.size()];
+            for (int i = 0; i < lists.size(); i++) {
+                double df = lists.get(i).size();
+                idf[i] = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+            }
+        }
+        
+        long size() {
+            long size = 0;
+            for (PostingList list : lists) {
+                size += list.size();
+            }
+            return size;
+        }
+        
+        int[] docs() {
+            if (lists.size() == 1) {
+                PostingList list = lists.get(0);
+                int[] docs = new int[list.size()];
+                for (int i = 0; i < docs.length; i++) {
+                    docs[i] = list.doc(i);
+                }
+                return docs;
+            }
+            return lists.stream()
+                    .flatMapToInt(list -> IntStream.range(0, list.size()).map(list::doc))
+                    .sorted()
+                    .distinct()
+                    .toArray();
+        }
+        
+        boolean contains(int doc) {
+            for (PostingList list : lists) {
+                if (list.frequency(doc) > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        double score(int doc, double averageLength) {
+            double score = 0;
+            boolean found = false;
+            for (int i = 0; i < lists.size(); i++) {
+                int frequency = lists.get(i).frequency(doc);
+                if (frequency == 0) {
+                    continue;
+                }
+                found = true;
+                if (scored) {
+                    double norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                    score += idf[i] * frequency * (K1 + 1) / (frequency + norm);
+                }
+            }
+            return found ? score : -1;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.sourav.aurora.index;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Tokenization shared by the search index, search queries and cache matching.
+ * Text is case-folded and split on anything that is not a letter or digit; single characters are dropped.
+ */
+public final class TextAnalyzer {
+    
+    static final int MIN_TOKEN_LENGTH = 2;
+    
+    /**
+     * The last query term also matches longer terms starting with it once it is at least this long
+     */
+    static final int MIN_PREFIX_LENGTH = 3;
+    
+    private TextAnalyzer() {
+        // Utility class
+    }
+    
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        forEachToken(text, tokens::add);
+        return tokens;
+    }
+    
+    static void forEachToken(String text, Consumer<String> consumer) {
+        if (text == null) {
+            return;
+        }
+        String folded = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start >= MIN_TOKEN_LENGTH) {
+                    consumer.accept(folded.substring(start, i));
+                }
+                start = -1;
+            }
+        }
+    }
+    
+    /**
+     * Whether the texts contain every query term, with the same rules the index applies:
+     * all terms are required and the last one may be a prefix
+     */
+    public static boolean matches(String query, String... texts) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return false;
+        }
+        
+        Set<String> tokens = new HashSet<>();
+        for (String text : texts) {
+            forEachToken(text, tokens::add);
+        }
+        
+        int last = queryTerms.size() - 1;
+        for (int i = 0; i < last; i++) {
+            if (!tokens.contains(queryTerms.get(i))) {
+                return false;
+            }
+        }
+        String lastTerm = queryTerms.get(last);
+        if (tokens.contains(lastTerm)) {
+            return true;
+        }
+        return lastTerm.length() >= MIN_PREFIX_LENGTH && tokens.stream().anyMatch(token -> token.startsWith(lastTerm));
+    }
+}
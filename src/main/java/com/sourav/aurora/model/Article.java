@@ -9,7 +9,17 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "news_articles")
+@Table(name = "news_articles", indexes = {
+    // Filtered listings; each leading column set serves the filter combinations that begin with it
+    @Index(name = "idx_articles_filters", columnList = "country, language, category, published_at, fetched_at"),
+    @Index(name = "idx_articles_language", columnList = "language, category, published_at"),
+    @Index(name = "idx_articles_category", columnList = "category, published_at"),
+    // Unfiltered listing and keyset seeks, read in index order without a sort
+    @Index(name = "idx_articles_recency", columnList = "published_at DESC, fetched_at DESC, id DESC"),
+    // Retention cleanup and today's articles
+    @Index(name = "idx_articles_fetched_at", columnList = "fetched_at"),
+    @Index(name = "idx_articles_source", columnList = "source")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -17,7 +27,8 @@ import java.time.LocalDateTime;
 public class Article {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "news_articles_seq")
+    @SequenceGenerator(name = "news_articles_seq", sequenceName = "news_articles_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, length = 500)
@@ -43,7 +54,7 @@ public class Article {
     @Column(length = 10)
     private String language;
     
-    @Column(name = "published_at")
+    @Column(name = "published_at", nullable = false)
     private LocalDateTime publishedAt;
     
     @Column(name = "fetched_at", nullable = false)
@@ -57,5 +68,9 @@ public class Article {
         if (fetchedAt == null) {
             fetchedAt = LocalDateTime.now();
         }
+        // Listing order and keyset cursors compare published_at directly, so it must never be NULL
+        if (publishedAt == null) {
+            publishedAt = fetchedAt;
+        }
     }
 }
\ No newline at end of file
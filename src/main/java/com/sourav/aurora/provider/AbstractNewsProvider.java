@@ -1,19 +1,34 @@
 package com.sourav.aurora.provider;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sourav.aurora.constants.ApplicationConstants;
 import com.sourav.aurora.exception.NewsProviderException;
 import com.sourav.aurora.model.Article;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -22,12 +37,26 @@ import java.util.concurrent.atomic.AtomicLong;
 @Slf4j
 public abstract class AbstractNewsProvider implements NewsProvider {
     
+    private static final String ARTICLES_FIELD = "articles";
+    private static final DateTimeFormatter SINCE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+    
     protected final WebClient webClient;
+    protected final ObjectMapper objectMapper;
+    protected final ProviderQuotaLedger quotaLedger;
+    protected final ProviderCircuitBreaker circuitBreaker;
+    protected final ProviderResponseCache responseCache;
+    protected final ProviderHighWaterMarks highWaterMarks;
     protected final AtomicLong lastSuccessfulFetch = new AtomicLong(0);
-    protected volatile boolean healthy = true;
     
-    protected AbstractNewsProvider(WebClient webClient) {
+    protected AbstractNewsProvider(WebClient webClient, ObjectMapper objectMapper, ProviderQuotaLedger quotaLedger, 
+                                   ProviderCircuitBreaker circuitBreaker, ProviderResponseCache responseCache,
+                                   ProviderHighWaterMarks highWaterMarks) {
         this.webClient = webClient;
+        this.objectMapper = objectMapper;
+        this.quotaLedger = quotaLedger;
+        this.circuitBreaker = circuitBreaker;
+        this.responseCache = responseCache;
+        this.highWaterMarks = highWaterMarks;
     }
     
     @Override
@@ -37,60 +66,210 @@ public abstract class AbstractNewsProvider implements NewsProvider {
     
     @Override
     public CompletableFuture<List<Article>> fetchNews(String country, String language, String category, String keyword, int page, int pageSize) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                if (!isEnabled()) {
-                    log.warn("Provider {} is disabled", getProviderName());
-                    return new ArrayList<>();
-                }
-                
-                String url = buildUrl(country, language, category, keyword, page, pageSize);
-                log.info("Fetching news from {}: {}", getProviderName(), url);
-                
-                String response = webClient.get()
-                        .uri(url)
-                        .retrieve()
-                        .bodyToMono(String.class)
-                        .timeout(Duration.ofMillis(getConfig().getTimeout()))
-                        .onErrorResume(WebClientResponseException.class, ex -> {
-                            log.error("HTTP error from {}: {} - {}", getProviderName(), ex.getStatusCode(), ex.getResponseBodyAsString());
-                            return Mono.error(new NewsProviderException(getProviderName(), "HTTP_ERROR", 
-                                    "HTTP " + ex.getStatusCode() + ": " + ex.getResponseBodyAsString(), ex));
-                        })
-                        .onErrorResume(Exception.class, ex -> {
-                            log.error("Network error from {}: {}", getProviderName(), ex.getMessage());
-                            return Mono.error(new NewsProviderException(getProviderName(), "NETWORK_ERROR", 
-                                    ApplicationConstants.ERROR_NETWORK_TIMEOUT, ex));
-                        })
-                        .block();
-                
-                List<Article> articles = parseResponse(response, country, language, category);
-                
-                // Update health status
-                healthy = true;
-                lastSuccessfulFetch.set(System.currentTimeMillis());
-                
-                log.info("Successfully fetched {} articles from {}", articles.size(), getProviderName());
-                return articles;
-                
-            } catch (Exception e) {
-                healthy = false;
-                log.error("Error fetching news from {}: {}", getProviderName(), e.getMessage(), e);
-                
-                if (e instanceof NewsProviderException) {
-                    throw e;
-                }
-                
-                throw new NewsProviderException(getProviderName(), ApplicationConstants.ERROR_NEWS_FETCH_FAILED, e);
+        return streamNews(country, language, category, keyword, page, pageSize)
+                .collectList()
+                .toFuture();
+    }
+    
+    @Override
+    public Flux<Article> streamNews(String country, String language, String category, String keyword) {
+        return streamNews(country, language, category, keyword, 1, getConfig().getMaxArticles());
+    }
+    
+    @Override
+    public Flux<Article> streamNews(String country, String language, String category, String keyword, int page, int pageSize) {
+        return Flux.deferContextual(context -> {
+            if (!isEnabled()) {
+                log.warn("Provider {} is disabled", getProviderName());
+                return Flux.empty();
             }
+            
+            ProviderHighWaterMarks.Tracker tracker = highWaterMarks.track(getProviderName(), country, language, category, keyword);
+            return fetchPage(context, country, language, category, keyword, page, pageSize, tracker)
+                    .doOnComplete(() -> tracker.completed(context));
         });
     }
     
+    @Override
+    public Flux<List<Article>> streamPages(String country, String language, String category, String keyword, int window) {
+        return Flux.deferContextual(context -> {
+            if (!isEnabled()) {
+                log.warn("Provider {} is disabled", getProviderName());
+                return Flux.empty();
+            }
+            
+            // One mark for all pages: pages read later must be compared with the mark from before the first page
+            ProviderHighWaterMarks.Tracker tracker = highWaterMarks.track(getProviderName(), country, language, category, keyword);
+            int pageSize = getConfig().getMaxArticles();
+            AtomicBoolean more = new AtomicBoolean(true);
+            AtomicBoolean failed = new AtomicBoolean();
+            return Flux.range(1, Math.max(1, getConfig().getMaxPages()))
+                    .takeWhile(page -> more.get())
+                    .flatMapSequential(page -> fetchPage(context, country, language, category, keyword, page, pageSize, tracker)
+                            .collectList()
+                            .doOnNext(articles -> {
+                                if (articles.isEmpty() || tracker.isCaughtUp()) {
+                                    more.set(false);
+                                }
+                            })
+                            .onErrorResume(e -> page > 1 && e instanceof NewsProviderException npe
+                                    && "RESULTS_LIMIT_REACHED".equals(npe.getErrorCode()), e -> {
+                                // The plan ends the query here: there is nothing further to read, now or next refresh
+                                log.info("Stopped paging {} at page {}: no more results on this plan", getProviderName(), page);
+                                more.set(false);
+                                return Mono.just(List.of());
+                            })
+                            .onErrorResume(e -> page > 1, e -> {
+                                // Keep the pages already read, but not their mark: articles on the failed page may be
+                                // older than those read, and the next refresh has to read them again
+                                log.warn("Stopped paging {} at page {}: {}", getProviderName(), page, e.getMessage());
+                                more.set(false);
+                                failed.set(true);
+                                return Mono.just(List.of());
+                            }), Math.max(1, window))
+                    .doOnComplete(() -> {
+                        if (!failed.get()) {
+                            tracker.completed(context);
+                        }
+                    });
+        });
+    }
+    
+    /**
+     * One page: from the response cache when still fresh, otherwise admitted by the circuit breaker and the quota
+     */
+    private Flux<Article> fetchPage(ContextView context, String country, String language, String category, String keyword,
+                                    int page, int pageSize, ProviderHighWaterMarks.Tracker tracker) {
+        String url = withSince(buildUrl(country, language, category, keyword, page, pageSize), tracker.since());
+        // Encoded as WebClient would encode the string, so that the response cache sees the URI that is sent
+        URI uri = UriComponentsBuilder.fromUriString(url).encode().build().toUri();
+        if (responseCache.isFresh(uri)) {
+            // Answered from disk: no request is made, so neither the breaker nor the quota is involved
+            log.info("Serving {} from the response cache: {}", getProviderName(), url);
+            return exchange(uri, country, language, category, tracker);
+        }
+        
+        ProviderCircuitBreaker.Permit permit = circuitBreaker.tryAcquire();
+        if (permit == null) {
+            return Flux.error(new NewsProviderException(getProviderName(), "CIRCUIT_OPEN", 
+                    "Circuit breaker is " + circuitBreaker.getState()));
+        }
+        
+        // Shared with every other caller of this provider; a shed request simply returns nothing
+        Duration wait;
+        try {
+            wait = quotaLedger.acquire(getProviderName(), getConfig(), RequestPriority.from(context));
+        } catch (NewsProviderException e) {
+            permit.release();
+            return Flux.error(e);
+        }
+        if (wait == null) {
+            permit.release();
+            return Flux.empty();
+        }
+        
+        log.info("Fetching news from {} in {} ms: {}", getProviderName(), wait.toMillis(), url);
+        AtomicInteger fetched = new AtomicInteger();
+        
+        Flux<Article> request = Flux.defer(() -> {
+            long start = System.nanoTime();
+            return exchange(uri, country, language, category, tracker)
+                    .doOnNext(article -> fetched.incrementAndGet())
+                    .doOnComplete(() -> {
+                        permit.onSuccess(System.nanoTime() - start);
+                        lastSuccessfulFetch.set(System.currentTimeMillis());
+                        log.info("Successfully fetched {} articles from {} (page {})", fetched.get(), getProviderName(), page);
+                    })
+                    .doOnError(e -> {
+                        // Running into a limit of the plan says nothing about the provider being reachable
+                        if (e instanceof NewsProviderException npe && isPlanLimit(npe)) {
+                            permit.release();
+                            return;
+                        }
+                        permit.onFailure(System.nanoTime() - start);
+                        log.error("Error fetching news from {}: {}", getProviderName(), e.getMessage(), e);
+                    });
+        });
+        // The timeout covers the request itself, not the wait for its slot
+        return (wait.isZero() ? request : Mono.delay(wait).thenMany(request))
+                .doOnCancel(permit::release);
+    }
+    
+    /**
+     * The request itself, possibly answered from the response cache.
+     * Reading stops at the first article behind the high-water mark, which also cancels the rest of the download.
+     */
+    private Flux<Article> exchange(URI url, String country, String language, String category,
+                                   ProviderHighWaterMarks.Tracker tracker) {
+        // One deadline for the whole response: a timeout on a Flux alone only bounds the gap between articles
+        Mono<Long> deadline = Mono.delay(Duration.ofMillis(getConfig().getTimeout())).cache();
+        return webClient.get()
+                .uri(url)
+                .exchangeToFlux(response -> {
+                    if (response.statusCode().isError()) {
+                        return response.createException().flatMapMany(Flux::error);
+                    }
+                    return decodeArticles(response.bodyToFlux(DataBuffer.class), country, language, category);
+                })
+                .timeout(deadline, article -> deadline)
+                .onErrorMap(WebClientResponseException.class, ex -> {
+                    if (ex.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+                        log.warn("{} refused a request for exceeding its quota", getProviderName());
+                        quotaLedger.exhaust(getProviderName());
+                        return new NewsProviderException(getProviderName(), "QUOTA_EXHAUSTED",
+                                "HTTP " + ex.getStatusCode() + ": " + ex.getResponseBodyAsString(), ex);
+                    }
+                    // 426 is how NewsAPI refuses results beyond the first 100 of a query on the developer plan:
+                    // later pages of this query cannot be read, other requests are still answered
+                    if (ex.getStatusCode().isSameCodeAs(HttpStatus.UPGRADE_REQUIRED)) {
+                        log.info("{} allows no more results for this query on its plan", getProviderName());
+                        return new NewsProviderException(getProviderName(), "RESULTS_LIMIT_REACHED",
+                                "HTTP " + ex.getStatusCode() + ": " + ex.getResponseBodyAsString(), ex);
+                    }
+                    log.error("HTTP error from {}: {} - {}", getProviderName(), ex.getStatusCode(), ex.getResponseBodyAsString());
+                    return new NewsProviderException(getProviderName(), "HTTP_ERROR", 
+                            "HTTP " + ex.getStatusCode() + ": " + ex.getResponseBodyAsString(), ex);
+                })
+                .onErrorMap(ex -> !(ex instanceof NewsProviderException), ex -> {
+                    log.error("Network error from {}: {}", getProviderName(), ex.getMessage());
+                    return new NewsProviderException(getProviderName(), "NETWORK_ERROR", 
+                            ApplicationConstants.ERROR_NETWORK_TIMEOUT, ex);
+                })
+                .takeWhile(tracker::isNew)
+                .doOnNext(tracker::observe)
+                .doOnComplete(() -> {
+                    if (tracker.isCaughtUp()) {
+                        log.debug("{} reached articles already read since {}", getProviderName(), tracker.since());
+                    }
+                });
+    }
+    
+    private static boolean isPlanLimit(NewsProviderException e) {
+        return "QUOTA_EXHAUSTED".equals(e.getErrorCode()) || "RESULTS_LIMIT_REACHED".equals(e.getErrorCode());
+    }
+    
+    /**
+     * Restrict the request to articles published at or after {@code since}, where the API has a parameter for it
+     */
+    private String withSince(String url, LocalDateTime since) {
+        String parameter = getSinceParameter();
+        if (since == null || parameter == null) {
+            return url;
+        }
+        return UriComponentsBuilder.fromUriString(url)
+                .queryParam(parameter, SINCE_FORMAT.format(since))
+                .build()
+                .toUriString();
+    }
+    
     @Override
     public boolean isHealthy() {
-        // Consider provider unhealthy if last successful fetch was more than 2 hours ago
-        long twoHoursAgo = System.currentTimeMillis() - (2 * 60 * 60 * 1000);
-        return healthy && lastSuccessfulFetch.get() > twoHoursAgo;
+        return circuitBreaker.isCallPermitted();
+    }
+    
+    @Override
+    public Map<String, Object> getCircuitStatus() {
+        return circuitBreaker.status();
     }
     
     @Override
@@ -119,9 +298,92 @@ public abstract class AbstractNewsProvider implements NewsProvider {
     protected abstract String buildUrl(String country, String language, String category, String keyword, int page, int pageSize);
     
     /**
-     * Template method for parsing API response - to be implemented by concrete providers
+     * Template method for the query parameter that limits results to articles published at or after a UTC time.
+     * Null when the API has none; reading then stops at the first article already seen.
+     */
+    protected String getSinceParameter() {
+        return null;
+    }
+    
+    /**
+     * Template method for mapping one element of the articles array - to be implemented by concrete providers.
+     * Returns null for articles that should be skipped.
+     */
+    protected abstract Article parseArticle(JsonNode articleNode, String country, String language, String category);
+    
+    /**
+     * Template method for detecting API errors from the top-level response fields - to be implemented by concrete providers
+     */
+    protected abstract void checkResponseStatus(JsonNode envelope);
+    
+    /**
+     * Decode a response body as it streams in, emitting each article as soon as it has been read
+     */
+    protected Flux<Article> decodeArticles(Flux<DataBuffer> body, String country, String language, String category) {
+        return Flux.defer(() -> {
+            ArticleJsonTokenizer tokenizer = newTokenizer();
+            return body
+                    .concatMapIterable(buffer -> {
+                        try {
+                            byte[] bytes = new byte[buffer.readableByteCount()];
+                            buffer.read(bytes);
+                            return tokenizer.feed(bytes);
+                        } catch (Exception e) {
+                            throw parseError(e);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .concatWith(Flux.defer(() -> {
+                        try {
+                            List<JsonNode> remaining = tokenizer.endOfInput();
+                            checkResponseStatus(tokenizer.envelope());
+                            return Flux.fromIterable(remaining);
+                        } catch (NewsProviderException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            throw parseError(e);
+                        }
+                    }))
+                    .mapNotNull(node -> parseArticle(node, country, language, category));
+        });
+    }
+    
+    /**
+     * Parse a complete response body that is already in memory
      */
-    protected abstract List<Article> parseResponse(String response, String country, String language, String category);
+    protected List<Article> parseResponse(String response, String country, String language, String category) {
+        try {
+            ArticleJsonTokenizer tokenizer = newTokenizer();
+            List<JsonNode> nodes = new ArrayList<>(tokenizer.feed(response.getBytes(StandardCharsets.UTF_8)));
+            nodes.addAll(tokenizer.endOfInput());
+            checkResponseStatus(tokenizer.envelope());
+            
+            return nodes.stream()
+                    .map(node -> parseArticle(node, country, language, category))
+                    .filter(Objects::nonNull)
+                    .toList();
+        } catch (NewsProviderException e) {
+            throw e;
+        } catch (Exception e) {
+            throw parseError(e);
+        }
+    }
+    
+    private ArticleJsonTokenizer newTokenizer() {
+        try {
+            return new ArticleJsonTokenizer(objectMapper, ARTICLES_FIELD);
+        } catch (Exception e) {
+            throw parseError(e);
+        }
+    }
+    
+    private NewsProviderException parseError(Exception e) {
+        log.error("Error parsing {} response", getProviderName(), e);
+        return new NewsProviderException(getProviderName(), "PARSE_ERROR", 
+                ApplicationConstants.ERROR_PARSING_RESPONSE, e);
+    }
     
     /**
      * Helper method to validate and filter supported values
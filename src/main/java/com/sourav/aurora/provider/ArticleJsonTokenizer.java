@@ -0,0 +1,141 @@
+package com.sourav.aurora.provider;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental decoder for provider responses shaped like {@code {"status": ..., "articles": [{...}, ...]}}.
+ * Bytes are fed chunk by chunk into Jackson's non-blocking parser; each element of the top-level
+ * articles array is handed out as soon as its closing brace arrives, so only one article is held
+ * as a tree at a time. All other top-level fields are collected into a small envelope node for
+ * error detection.
+ */
+final class ArticleJsonTokenizer {
+    
+    private final ObjectMapper objectMapper;
+    private final String articlesField;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final ObjectNode envelope;
+    
+    private int depth;
+    private String currentField;
+    private boolean inArticles;
+    private TokenBuffer capture;
+    private int captureDepth;
+    private String captureField;
+    
+    ArticleJsonTokenizer(ObjectMapper objectMapper, String articlesField) throws IOException {
+        this.objectMapper = objectMapper;
+        this.articlesField = articlesField;
+        this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.envelope = objectMapper.createObjectNode();
+    }
+    
+    /**
+     * Feed the next chunk of the body and return the articles completed by it
+     */
+    List<JsonNode> feed(byte[] bytes) throws IOException {
+        feeder.feedInput(bytes, 0, bytes.length);
+        return drain();
+    }
+    
+    /**
+     * Signal the end of the body and return any articles still pending
+     */
+    List<JsonNode> endOfInput() throws IOException {
+        feeder.endOfInput();
+        List<JsonNode> articles = drain();
+        if (depth != 0 || capture != null) {
+            throw new IOException("Unexpected end of provider response");
+        }
+        return articles;
+    }
+    
+    /**
+     * Top-level fields other than the articles array, e.g. status, code, message or error
+     */
+    ObjectNode envelope() {
+        return envelope;
+    }
+    
+    private List<JsonNode> drain() throws IOException {
+        List<JsonNode> articles = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (capture != null) {
+                continueCapture(token, articles);
+            } else {
+                handleToken(token, articles);
+            }
+        }
+        return articles;
+    }
+    
+    private void handleToken(JsonToken token, List<JsonNode> articles) throws IOException {
+        if (token == JsonToken.FIELD_NAME) {
+            currentField = parser.currentName();
+            return;
+        }
+        if (token.isStructEnd()) {
+            depth--;
+            if (inArticles && depth == 1) {
+                inArticles = false;
+            }
+            return;
+        }
+        if (depth == 0) {
+            if (token != JsonToken.START_OBJECT) {
+                throw new IOException("Provider response is not a JSON object");
+            }
+            depth = 1;
+        } else if (depth == 1 && token == JsonToken.START_ARRAY && articlesField.equals(currentField)) {
+            inArticles = true;
+            depth = 2;
+        } else if (depth == 1) {
+            startCapture(token, currentField, articles);
+        } else if (inArticles && depth == 2) {
+            startCapture(token, null, articles);
+        } else if (token.isStructStart()) {
+            depth++;
+        }
+    }
+    
+    private void startCapture(JsonToken token, String field, List<JsonNode> articles) throws IOException {
+        capture = new TokenBuffer(parser);
+        captureField = field;
+        captureDepth = 0;
+        continueCapture(token, articles);
+    }
+    
+    private void continueCapture(JsonToken token, List<JsonNode> articles) throws IOException {
+        capture.copyCurrentEvent(parser);
+        if (token.isStructStart()) {
+            captureDepth++;
+        } else if (token.isStructEnd()) {
+            captureDepth--;
+        }
+        if (captureDepth > 0) {
+            return;
+        }
+    
+        JsonNode node = objectMapper.readTree(capture.asParser(objectMapper));
+        if (captureField != null) {
+            envelope.set(captureField, node);
+        } else {
+            articles.add(node);
+        }
+        capture = null;
+        captureField = null;
+    }
+}
@@ -8,14 +8,13 @@ import com.sourav.aurora.exception.NewsProviderException;
 import com.sourav.aurora.model.Article;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * GNews provider implementation using real API calls with virtual threads
@@ -28,14 +27,15 @@ public class GNewsProvider extends AbstractNewsProvider {
     private static final int PRIORITY = 2; // Lower priority than NewsAPI
     
     private final NewsProviderConfig config;
-    private final ObjectMapper objectMapper;
     private final ProviderConfig providerConfig;
     
     @Autowired
-    public GNewsProvider(WebClient webClient, NewsProviderConfig config, ObjectMapper objectMapper) {
-        super(webClient);
+    public GNewsProvider(@Qualifier("gnewsWebClient") WebClient webClient, NewsProviderConfig config, ObjectMapper objectMapper,
+                         ProviderQuotaLedger quotaLedger, ProviderResponseCache responseCache,
+                         ProviderHighWaterMarks highWaterMarks) {
+        super(webClient, objectMapper, quotaLedger, new ProviderCircuitBreaker(PROVIDER_NAME, config.getCircuitBreaker()),
+                responseCache, highWaterMarks);
         this.config = config;
-        this.objectMapper = objectMapper;
         this.providerConfig = new GNewsConfig();
     }
     
@@ -73,6 +73,11 @@ public class GNewsProvider extends AbstractNewsProvider {
                 .queryParam("apikey", apiKey)
                 .queryParam("max", Math.min(pageSize, 100));
         
+        // Only paid plans may page; the first page keeps working without the parameter on the free plan
+        if (page > 1) {
+            builder.queryParam("page", page);
+        }
+        
         // Add filters only if they are supported
         if (isSupported(country, ApplicationConstants.SUPPORTED_COUNTRIES)) {
             builder.queryParam("country", country.toLowerCase());
@@ -96,42 +101,22 @@ public class GNewsProvider extends AbstractNewsProvider {
     }
     
     @Override
-    protected List<Article> parseResponse(String response, String country, String language, String category) {
-        List<Article> articles = new ArrayList<>();
-        
-        try {
-            JsonNode root = objectMapper.readTree(response);
-            
-            // Check for API errors
-            JsonNode errorNode = root.get("error");
-            if (errorNode != null) {
-                String errorMessage = errorNode.asText();
-                throw new NewsProviderException(PROVIDER_NAME, "API_ERROR", 
-                        "GNews API error: " + errorMessage);
-            }
-            
-            JsonNode articlesNode = root.get("articles");
-            if (articlesNode != null && articlesNode.isArray()) {
-                for (JsonNode articleNode : articlesNode) {
-                    Article article = parseArticle(articleNode, country, language, category);
-                    if (article != null) {
-                        articles.add(article);
-                    }
-                }
-            }
-            
-        } catch (NewsProviderException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Error parsing GNews response", e);
-            throw new NewsProviderException(PROVIDER_NAME, "PARSE_ERROR", 
-                    ApplicationConstants.ERROR_PARSING_RESPONSE, e);
+    protected String getSinceParameter() {
+        return "from";
+    }
+    
+    @Override
+    protected void checkResponseStatus(JsonNode envelope) {
+        JsonNode errorNode = envelope.get("error");
+        if (errorNode != null) {
+            String errorMessage = errorNode.asText();
+            throw new NewsProviderException(PROVIDER_NAME, "API_ERROR", 
+                    "GNews API error: " + errorMessage);
         }
-        
-        return articles;
     }
     
-    private Article parseArticle(JsonNode articleNode, String country, String language, String category) {
+    @Override
+    protected Article parseArticle(JsonNode articleNode, String country, String language, String category) {
         try {
             String title = getTextValue(articleNode, "title");
             String url = getTextValue(articleNode, "url");
@@ -152,7 +137,7 @@ public class GNewsProvider extends AbstractNewsProvider {
             
             return createArticle(title, description, url, source, publishedAt, imageUrl, 
                                country, language, category);
-                               
+        
         } catch (Exception e) {
             log.warn("Error parsing individual article from GNews", e);
             return null;
@@ -210,6 +195,31 @@ public class GNewsProvider extends AbstractNewsProvider {
             return config.getProviders().get("gnews").getMaxArticles();
         }
         
+        @Override
+        public int getMaxPages() {
+            return config.getProviders().get("gnews").getMaxPages();
+        }
+        
+        @Override
+        public int getRequestsPerMinute() {
+            return config.getProviders().get("gnews").getRequestsPerMinute();
+        }
+        
+        @Override
+        public int getBurst() {
+            return config.getProviders().get("gnews").getBurst();
+        }
+        
+        @Override
+        public int getDailyQuota() {
+            return config.getProviders().get("gnews").getDailyQuota();
+        }
+        
+        @Override
+        public int getReservedQuota() {
+            return config.getProviders().get("gnews").getReservedQuota();
+        }
+        
         @Override
         public String getApiKey() {
             return config.getApikeys().get("gnews");
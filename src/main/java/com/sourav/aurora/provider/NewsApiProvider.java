@@ -8,14 +8,13 @@ import com.sourav.aurora.exception.NewsProviderException;
 import com.sourav.aurora.model.Article;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * NewsAPI provider implementation using real API calls with virtual threads
@@ -28,14 +27,15 @@ public class NewsApiProvider extends AbstractNewsProvider {
     private static final int PRIORITY = 1; // High priority
     
     private final NewsProviderConfig config;
-    private final ObjectMapper objectMapper;
     private final ProviderConfig providerConfig;
     
     @Autowired
-    public NewsApiProvider(WebClient webClient, NewsProviderConfig config, ObjectMapper objectMapper) {
-        super(webClient);
+    public NewsApiProvider(@Qualifier("newsApiWebClient") WebClient webClient, NewsProviderConfig config, ObjectMapper objectMapper,
+                          ProviderQuotaLedger quotaLedger, ProviderResponseCache responseCache,
+                          ProviderHighWaterMarks highWaterMarks) {
+        super(webClient, objectMapper, quotaLedger, new ProviderCircuitBreaker(PROVIDER_NAME, config.getCircuitBreaker()),
+                responseCache, highWaterMarks);
         this.config = config;
-        this.objectMapper = objectMapper;
         this.providerConfig = new NewsApiConfig();
     }
     
@@ -97,43 +97,18 @@ public class NewsApiProvider extends AbstractNewsProvider {
     }
     
     @Override
-    protected List<Article> parseResponse(String response, String country, String language, String category) {
-        List<Article> articles = new ArrayList<>();
-        
-        try {
-            JsonNode root = objectMapper.readTree(response);
-            
-            // Check for API errors
-            String status = getTextValue(root, "status");
-            if (!"ok".equals(status)) {
-                String errorCode = getTextValue(root, "code");
-                String errorMessage = getTextValue(root, "message");
-                throw new NewsProviderException(PROVIDER_NAME, errorCode, 
-                        "NewsAPI error: " + errorMessage);
-            }
-            
-            JsonNode articlesNode = root.get("articles");
-            if (articlesNode != null && articlesNode.isArray()) {
-                for (JsonNode articleNode : articlesNode) {
-                    Article article = parseArticle(articleNode, country, language, category);
-                    if (article != null) {
-                        articles.add(article);
-                    }
-                }
-            }
-            
-        } catch (NewsProviderException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Error parsing NewsAPI response", e);
-            throw new NewsProviderException(PROVIDER_NAME, "PARSE_ERROR", 
-                    ApplicationConstants.ERROR_PARSING_RESPONSE, e);
+    protected void checkResponseStatus(JsonNode envelope) {
+        String status = getTextValue(envelope, "status");
+        if (!"ok".equals(status)) {
+            String errorCode = getTextValue(envelope, "code");
+            String errorMessage = getTextValue(envelope, "message");
+            throw new NewsProviderException(PROVIDER_NAME, errorCode, 
+                    "NewsAPI error: " + errorMessage);
         }
-        
-        return articles;
     }
     
-    private Article parseArticle(JsonNode articleNode, String country, String language, String category) {
+    @Override
+    protected Article parseArticle(JsonNode articleNode, String country, String language, String category) {
         try {
             String title = getTextValue(articleNode, "title");
             String url = getTextValue(articleNode, "url");
@@ -159,7 +134,7 @@ public class NewsApiProvider extends AbstractNewsProvider {
             
             return createArticle(title, description, url, source, publishedAt, imageUrl, 
                                country, language, category);
-                               
+        
         } catch (Exception e) {
             log.warn("Error parsing individual article from NewsAPI", e);
             return null;
@@ -211,6 +186,31 @@ public class NewsApiProvider extends AbstractNewsProvider {
             return config.getProviders().get("newsapi").getMaxArticles();
         }
         
+        @Override
+        public int getMaxPages() {
+            return config.getProviders().get("newsapi").getMaxPages();
+        }
+        
+        @Override
+        public int getRequestsPerMinute() {
+            return config.getProviders().get("newsapi").getRequestsPerMinute();
+        }
+        
+        @Override
+        public int getBurst() {
+            return config.getProviders().get("newsapi").getBurst();
+        }
+        
+        @Override
+        public int getDailyQuota() {
+            return config.getProviders().get("newsapi").getDailyQuota();
+        }
+        
+        @Override
+        public int getReservedQuota() {
+            return config.getProviders().get("newsapi").getReservedQuota();
+        }
+        
         @Override
         public String getApiKey() {
             return config.getApikeys().get("newsapi");
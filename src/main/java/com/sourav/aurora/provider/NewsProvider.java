@@ -1,8 +1,10 @@
 package com.sourav.aurora.provider;
 
 import com.sourav.aurora.model.Article;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -35,6 +37,22 @@ public interface NewsProvider {
      */
     CompletableFuture<List<Article>> fetchNews(String country, String language, String category, String keyword, int page, int pageSize);
     
+    /**
+     * Stream news articles without blocking; nothing is requested until subscription
+     */
+    Flux<Article> streamNews(String country, String language, String category, String keyword);
+    
+    /**
+     * Stream news articles with pagination; failures surface as {@link com.sourav.aurora.exception.NewsProviderException}
+     */
+    Flux<Article> streamNews(String country, String language, String category, String keyword, int page, int pageSize);
+    
+    /**
+     * Stream up to {@link ProviderConfig#getMaxPages()} pages, {@code window} of them requested at a time, each emitted
+     * in page order as soon as it has been read. Paging stops at an empty page or one reaching articles already read.
+     */
+    Flux<List<Article>> streamPages(String country, String language, String category, String keyword, int window);
+    
     /**
      * Get supported countries by this provider
      */
@@ -55,6 +73,11 @@ public interface NewsProvider {
      */
     boolean isHealthy();
     
+    /**
+     * Get circuit breaker state, recent failure rates and transitions
+     */
+    Map<String, Object> getCircuitStatus();
+    
     /**
      * Get last successful fetch timestamp
      */
@@ -72,6 +95,11 @@ public interface NewsProvider {
         String getBaseUrl();
         int getTimeout();
         int getMaxArticles();
+        int getMaxPages();
+        int getRequestsPerMinute();
+        int getBurst();
+        int getDailyQuota();
+        int getReservedQuota();
         String getApiKey();
     }
 }
\ No newline at end of file
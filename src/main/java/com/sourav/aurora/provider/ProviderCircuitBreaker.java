@@ -0,0 +1,238 @@
+package com.sourav.aurora.provider;
+
+import com.sourav.aurora.config.NewsProviderConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Circuit breaker guarding the calls to one provider. The outcomes of the last {@code windowSize} calls are kept
+ * in a ring buffer; once enough calls were seen and too many of them failed or were slow the breaker opens and
+ * calls are refused. After {@code openDuration} it lets {@code halfOpenProbes} calls through: if all succeed it
+ * closes again with an empty window, the first failed or slow probe opens it again. No locks are taken, so
+ * recording an outcome never blocks the thread completing the call.
+ */
+@Slf4j
+public class ProviderCircuitBreaker {
+    
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+    
+    private static final int RECORDED = 1;
+    private static final int FAILED = 2;
+    private static final int SLOW = 4;
+    private static final int MAX_TRANSITIONS = 10;
+    
+    private final String providerName;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final int slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    
+    private final AtomicIntegerArray outcomes;
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger slowCalls = new AtomicInteger();
+    private final AtomicReference<Phase> phase;
+    private final Deque<Transition> transitions = new ConcurrentLinkedDeque<>();
+    
+    public ProviderCircuitBreaker(String providerName, NewsProviderConfig.CircuitBreaker settings) {
+        this.providerName = providerName;
+        this.minimumCalls = Math.max(1, settings.getMinimumCalls());
+        this.failureRateThreshold = settings.getFailureRateThreshold();
+        this.slowCallRateThreshold = settings.getSlowCallRateThreshold();
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(settings.getSlowCallThreshold());
+        this.openNanos = TimeUnit.SECONDS.toNanos(settings.getOpenDuration());
+        this.halfOpenProbes = Math.max(1, settings.getHalfOpenProbes());
+        this.outcomes = new AtomicIntegerArray(Math.max(minimumCalls, settings.getWindowSize()));
+        this.phase = new AtomicReference<>(new Phase(State.CLOSED, 0));
+    }
+    
+    /**
+     * Permission for one call, or null when the breaker refuses it. The permit must be completed with
+     * {@link Permit#onSuccess}, {@link Permit#onFailure} or, when the call never reached the provider, {@link Permit#release}.
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            Phase current = phase.get();
+            switch (current.state) {
+                case CLOSED:
+                    return new Permit(current);
+                case OPEN:
+                    if (System.nanoTime() - current.enteredNanos < openNanos) {
+                        return null;
+                    }
+                    transition(current, State.HALF_OPEN, "open period elapsed");
+                    break;
+                case HALF_OPEN:
+                    return current.probes.getAndUpdate(left -> left > 0 ? left - 1 : left) > 0 ? new Permit(current) : null;
+            }
+        }
+    }
+    
+    /**
+     * Whether a call could be made now; unlike {@link #tryAcquire()} this does not use up a half-open probe
+     */
+    public boolean isCallPermitted() {
+        Phase current = phase.get();
+        return switch (current.state) {
+            case CLOSED -> true;
+            case OPEN -> System.nanoTime() - current.enteredNanos >= openNanos;
+            case HALF_OPEN -> current.probes.get() > 0;
+        };
+    }
+    
+    public State getState() {
+        return phase.get().state;
+    }
+    
+    public Map<String, Object> status() {
+        Phase current = phase.get();
+        int windowCalls = calls.get();
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", current.state);
+        status.put("since", current.enteredAt);
+        status.put("windowCalls", windowCalls);
+        status.put("failureRate", windowCalls > 0 ? failures.get() * 100 / windowCalls : 0);
+        status.put("slowCallRate", windowCalls > 0 ? slowCalls.get() * 100 / windowCalls : 0);
+        status.put("transitions", List.copyOf(new ArrayList<>(transitions)));
+        return status;
+    }
+    
+    private void record(Phase callPhase, long durationNanos, boolean failed) {
+        boolean slow = durationNanos >= slowCallNanos;
+        if (phase.get() != callPhase) {
+            return; // the call started before the last transition; its outcome belongs to an earlier phase
+        }
+        
+        if (callPhase.state == State.HALF_OPEN) {
+            if (failed || slow) {
+                transition(callPhase, State.OPEN, failed ? "probe call failed" : "probe call was slow");
+            } else if (callPhase.successes.incrementAndGet() >= halfOpenProbes) {
+                transition(callPhase, State.CLOSED, halfOpenProbes + " probe calls succeeded");
+            }
+            return;
+        }
+        
+        int outcome = RECORDED | (failed ? FAILED : 0) | (slow ? SLOW : 0);
+        int replaced = outcomes.getAndSet(Math.floorMod(cursor.getAndIncrement(), outcomes.length()), outcome);
+        count(replaced, -1);
+        count(outcome, 1);
+        
+        int windowCalls = calls.get();
+        if (windowCalls < minimumCalls) {
+            return;
+        }
+        int failureRate = failures.get() * 100 / windowCalls;
+        int slowCallRate = slowCalls.get() * 100 / windowCalls;
+        if (failureRate >= failureRateThreshold) {
+            transition(callPhase, State.OPEN, "failure rate " + failureRate + "% over " + windowCalls + " calls");
+        } else if (slowCallRate >= slowCallRateThreshold) {
+            transition(callPhase, State.OPEN, "slow call rate " + slowCallRate + "% over " + windowCalls + " calls");
+        }
+    }
+    
+    private void count(int outcome, int delta) {
+        if ((outcome & RECORDED) == 0) {
+            return;
+        }
+        calls.addAndGet(delta);
+        if ((outcome & FAILED) != 0) {
+            failures.addAndGet(delta);
+        }
+        if ((outcome & SLOW) != 0) {
+            slowCalls.addAndGet(delta);
+        }
+    }
+    
+    private void transition(Phase from, State to, String reason) {
+        Phase next = new Phase(to, to == State.HALF_OPEN ? halfOpenProbes : 0);
+        if (!phase.compareAndSet(from, next)) {
+            return; // another caller moved the breaker first
+        }
+        if (to == State.CLOSED) {
+            // Start the closed phase with an empty window rather than the failures that opened it
+            for (int i = 0; i < outcomes.length(); i++) {
+                count(outcomes.getAndSet(i, 0), -1);
+            }
+        }
+        
+        transitions.addLast(new Transition(from.state, to, next.enteredAt, reason));
+        while (transitions.size() > MAX_TRANSITIONS) {
+            transitions.pollFirst();
+        }
+        if (to == State.OPEN) {
+            log.warn("Circuit for {} opened: {}", providerName, reason);
+        } else {
+            log.info("Circuit for {} moved from {} to {}: {}", providerName, from.state, to, reason);
+        }
+    }
+    
+    /**
+     * One stay in a state; calls remember the phase they were admitted in so late outcomes can be ignored
+     */
+    private static final class Phase {
+        
+        private final State state;
+        private final long enteredNanos = System.nanoTime();
+        private final Instant enteredAt = Instant.now();
+        private final AtomicInteger probes;
+        private final AtomicInteger successes = new AtomicInteger();
+        
+        Phase(State state, int probes) {
+            this.state = state;
+            this.probes = new AtomicInteger(probes);
+        }
+    }
+    
+    public record Transition(State from, State to, Instant at, String reason) {
+    }
+    
+    /**
+     * An admitted call; only the first completion counts
+     */
+    public final class Permit {
+        
+        private final Phase admittedIn;
+        private final AtomicBoolean completed = new AtomicBoolean();
+        
+        private Permit(Phase admittedIn) {
+            this.admittedIn = admittedIn;
+        }
+        
+        public void onSuccess(long durationNanos) {
+            if (completed.compareAndSet(false, true)) {
+                record(admittedIn, durationNanos, false);
+            }
+        }
+        
+        public void onFailure(long durationNanos) {
+            if (completed.compareAndSet(false, true)) {
+                record(admittedIn, durationNanos, true);
+            }
+        }
+        
+        /**
+         * The call was not made after all; a half-open probe goes back to the pool
+         */
+        public void release() {
+            if (completed.compareAndSet(false, true) && admittedIn.state == State.HALF_OPEN) {
+                admittedIn.probes.incrementAndGet();
+            }
+        }
+    }
+}
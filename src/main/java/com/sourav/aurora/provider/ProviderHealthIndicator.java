@@ -0,0 +1,32 @@
+package com.sourav.aurora.provider;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Reports the circuit breaker of every provider under {@code provider} in {@code /actuator/health}.
+ * Stays UP while circuits are open: stored articles are still served, only refreshes are affected.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProviderHealthIndicator implements HealthIndicator {
+    
+    private final List<NewsProvider> newsProviders;
+    
+    @Override
+    public Health health() {
+        Health.Builder health = Health.up();
+        long available = 0;
+        for (NewsProvider provider : newsProviders) {
+            if (provider.isEnabled() && provider.isHealthy()) {
+                available++;
+            }
+            health.withDetail(provider.getProviderName(), provider.getCircuitStatus());
+        }
+        return health.withDetail("available", available).build();
+    }
+}
@@ -0,0 +1,172 @@
+package com.sourav.aurora.provider;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sourav.aurora.config.NewsProviderConfig;
+import com.sourav.aurora.model.Article;
+import org.springframework.stereotype.Component;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The newest article each provider returned for each query, so that a refresh only reads what is new.
+ * Providers pass the mark as a date parameter where their API has one, and stop reading a response at the first
+ * article at or behind it. A mark advances only once the articles read have been stored, see {@link PendingMarks}.
+ * Kept in memory only: after a restart the database is empty and everything is new.
+ */
+@Component
+public class ProviderHighWaterMarks {
+    
+    private final boolean enabled;
+    private final Cache<String, HighWaterMark> marks;
+    
+    public ProviderHighWaterMarks(NewsProviderConfig config) {
+        NewsProviderConfig.Incremental settings = config.getIncremental();
+        this.enabled = settings.isEnabled();
+        this.marks = Caffeine.newBuilder()
+                .maximumSize(settings.getMaxQueries())
+                .build();
+    }
+    
+    /**
+     * Start reading one response of {@code provider} for the query
+     */
+    public Tracker track(String provider, String country, String language, String category, String keyword) {
+        String key = String.join("|", provider, normalize(country), normalize(language), normalize(category), normalize(keyword));
+        return new Tracker(key, enabled ? marks.getIfPresent(key) : null);
+    }
+    
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * Latest publication time seen, and the URLs published at exactly that time
+     */
+    private record HighWaterMark(LocalDateTime publishedAt, Set<String> urls) {
+        
+        boolean covers(Article article) {
+            LocalDateTime published = article.getPublishedAt();
+            if (published == null) {
+                return false;
+            }
+            return published.isBefore(publishedAt) || (published.isEqual(publishedAt) && urls.contains(article.getUrl()));
+        }
+        
+        HighWaterMark max(HighWaterMark other) {
+            if (other.publishedAt.isAfter(publishedAt)) {
+                return other;
+            }
+            if (other.publishedAt.isBefore(publishedAt)) {
+                return this;
+            }
+            Set<String> union = new HashSet<>(urls);
+            union.addAll(other.urls);
+            return new HighWaterMark(publishedAt, Set.copyOf(union));
+        }
+    }
+    
+    /**
+     * One refresh being read; the pages of a paged refresh may be read concurrently
+     */
+    public final class Tracker {
+        
+        private final String key;
+        private final HighWaterMark previous;
+        private LocalDateTime newest;
+        private final Set<String> urlsAtNewest = new HashSet<>();
+        private volatile boolean caughtUp;
+        
+        private Tracker(String key, HighWaterMark previous) {
+            this.key = key;
+            this.previous = previous;
+        }
+        
+        /**
+         * Publication time of the newest article already read for this query, or null when there is none
+         */
+        public LocalDateTime since() {
+            return previous != null ? previous.publishedAt() : null;
+        }
+        
+        /**
+         * Whether the article is newer than the mark. The first one that is not ends the response:
+         * providers list newest first, so everything after it has been read before.
+         */
+        public boolean isNew(Article article) {
+            if (previous != null && previous.covers(article)) {
+                caughtUp = true;
+                return false;
+            }
+            return true;
+        }
+        
+        public synchronized void observe(Article article) {
+            LocalDateTime published = article.getPublishedAt();
+            if (published == null || (newest != null && published.isBefore(newest))) {
+                return;
+            }
+            if (newest == null || published.isAfter(newest)) {
+                newest = published;
+                urlsAtNewest.clear();
+            }
+            if (article.getUrl() != null) {
+                urlsAtNewest.add(article.getUrl());
+            }
+        }
+        
+        /**
+         * Whether reading stopped at an article that was already seen
+         */
+        public boolean isCaughtUp() {
+            return caughtUp;
+        }
+        
+        /**
+         * Every page has been read completely. The mark advances when the refresh in the context commits;
+         * reads made outside a refresh leave it where it is.
+         */
+        public void completed(ContextView context) {
+            PendingMarks.from(context).ifPresent(pending -> pending.trackers.add(this));
+        }
+        
+        private synchronized void commit() {
+            if (enabled && newest != null) {
+                marks.asMap().merge(key, new HighWaterMark(newest, Set.copyOf(urlsAtNewest)), HighWaterMark::max);
+            }
+        }
+    }
+    
+    /**
+     * Trackers of one refresh that were read completely, carried in the Reactor context of its fetches.
+     * Their marks advance together on {@link #commit()}, which the refresh calls once it has stored the
+     * articles; a refresh that fails to store them reads the same articles again next time.
+     */
+    public static final class PendingMarks {
+        
+        private final Queue<Tracker> trackers = new ConcurrentLinkedQueue<>();
+        
+        public Context context() {
+            return Context.of(PendingMarks.class, this);
+        }
+        
+        public static Optional<PendingMarks> from(ContextView context) {
+            return context.getOrEmpty(PendingMarks.class);
+        }
+        
+        public void commit() {
+            Tracker tracker;
+            while ((tracker = trackers.poll()) != null) {
+                tracker.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.sourav.aurora.provider;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.netty.http.client.HttpClientMetricsRecorder;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+
+/**
+ * Connection-level timings of one provider's HTTP client, tagged with the provider rather than the URI:
+ * request URIs carry API keys and vary with every filter. Pool utilisation and acquire latency are published
+ * by the connection pool itself under {@code reactor.netty.connection.provider.*}, named {@code provider-<name>}.
+ */
+public class ProviderHttpMetrics implements HttpClientMetricsRecorder {
+    
+    private final String provider;
+    private final MeterRegistry meterRegistry;
+    
+    public ProviderHttpMetrics(String provider, MeterRegistry meterRegistry) {
+        this.provider = provider;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public void recordResolveAddressTime(SocketAddress remoteAddress, Duration time, String status) {
+        timer("aurora.provider.http.dns", "DNS resolution of the provider host", status).record(time);
+    }
+    
+    @Override
+    public void recordConnectTime(SocketAddress remoteAddress, Duration time, String status) {
+        timer("aurora.provider.http.connect", "Opening a new connection to the provider", status).record(time);
+    }
+    
+    @Override
+    public void recordTlsHandshakeTime(SocketAddress remoteAddress, Duration time, String status) {
+        timer("aurora.provider.http.tls", "TLS handshake of a new connection to the provider", status).record(time);
+    }
+    
+    @Override
+    public void recordResponseTime(SocketAddress remoteAddress, String uri, String method, String status, Duration time) {
+        timer("aurora.provider.http.response", "Request sent until the response was read completely", status).record(time);
+    }
+    
+    @Override
+    public void recordDataReceived(SocketAddress remoteAddress, String uri, long bytes) {
+        DistributionSummary.builder("aurora.provider.http.received")
+                .tag("provider", provider)
+                .baseUnit("bytes")
+                .description("Response bytes received from the provider, after compression")
+                .register(meterRegistry)
+                .record(bytes);
+    }
+    
+    @Override
+    public void incrementErrorsCount(SocketAddress remoteAddress, String uri) {
+        Counter.builder("aurora.provider.http.errors")
+                .tag("provider", provider)
+                .description("Connection errors talking to the provider")
+                .register(meterRegistry)
+                .increment();
+    }
+    
+    @Override
+    public void recordDataReceivedTime(SocketAddress remoteAddress, String uri, String method, String status, Duration time) {
+    }
+    
+    @Override
+    public void recordDataSentTime(SocketAddress remoteAddress, String uri, String method, Duration time) {
+    }
+    
+    @Override
+    public void recordDataSent(SocketAddress remoteAddress, String uri, long bytes) {
+    }
+    
+    @Override
+    public void recordDataReceived(SocketAddress remoteAddress, long bytes) {
+    }
+    
+    @Override
+    public void recordDataSent(SocketAddress remoteAddress, long bytes) {
+    }
+    
+    @Override
+    public void incrementErrorsCount(SocketAddress remoteAddress) {
+    }
+    
+    private Timer timer(String name, String description, String status) {
+        return Timer.builder(name)
+                .tag("provider", provider)
+                .tag("status", status)
+                .description(description)
+                .register(meterRegistry);
+    }
+}
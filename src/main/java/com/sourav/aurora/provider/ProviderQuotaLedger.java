@@ -0,0 +1,209 @@
+package com.sourav.aurora.provider;
+
+import com.sourav.aurora.config.NewsProviderConfig;
+import com.sourav.aurora.exception.NewsProviderException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Request budget of each provider, shared by every caller (scheduled jobs, manual refreshes, warmup).
+ * A token bucket refilled at {@code requestsPerMinute} with room for {@code burst} requests spaces calls out,
+ * and a daily counter, reset at midnight UTC like the providers' own quotas, stops them before the provider
+ * starts refusing. Daily usage is written to {@code news.quota-state-file} so that a restart does not forget it;
+ * callers include Netty event-loop threads, so the file is written in the background, one write for a burst of requests.
+ */
+@Component
+@Slf4j
+public class ProviderQuotaLedger {
+    
+    private final Path stateFile;
+    private final Map<String, Budget> budgets = new ConcurrentHashMap<>();
+    private final AtomicBoolean writePending = new AtomicBoolean();
+    
+    public ProviderQuotaLedger(NewsProviderConfig config) {
+        this.stateFile = Path.of(config.getQuotaStateFile());
+        load();
+    }
+    
+    /**
+     * Take one request from the provider's budget. Returns how long the caller has to wait for a token,
+     * or null when the request is shed because the remaining daily quota is kept for higher priorities.
+     *
+     * @throws NewsProviderException with code {@code QUOTA_EXHAUSTED} once the daily quota is used up
+     */
+    public Duration acquire(String provider, NewsProvider.ProviderConfig settings, RequestPriority priority) {
+        Budget budget = budgets.computeIfAbsent(provider, name -> new Budget());
+        Duration wait;
+        synchronized (budget) {
+            budget.rollOver();
+            int remaining = budget.remaining(settings.getDailyQuota());
+            if (remaining <= 0) {
+                throw new NewsProviderException(provider, "QUOTA_EXHAUSTED",
+                        "Daily quota used up, resets at " + nextReset());
+            }
+            if (remaining <= priority.untouchable(settings.getReservedQuota())) {
+                log.info("Shedding {} priority request to {}: {} requests left today", priority, provider, remaining);
+                return null;
+            }
+            budget.used++;
+            wait = budget.take(settings.getRequestsPerMinute(), settings.getBurst());
+        }
+        schedulePersist();
+        return wait;
+    }
+    
+    /**
+     * The provider refused a request for exceeding its quota; treat the rest of its day as used up
+     */
+    public void exhaust(String provider) {
+        Budget budget = budgets.computeIfAbsent(provider, name -> new Budget());
+        synchronized (budget) {
+            budget.rollOver();
+            budget.exhausted = true;
+        }
+        schedulePersist();
+    }
+    
+    public Map<String, Object> status(String provider, NewsProvider.ProviderConfig settings) {
+        Budget budget = budgets.computeIfAbsent(provider, name -> new Budget());
+        Map<String, Object> status = new LinkedHashMap<>();
+        synchronized (budget) {
+            budget.rollOver();
+            status.put("dailyQuota", settings.getDailyQuota());
+            status.put("used", budget.used);
+            status.put("remaining", Math.max(0, budget.remaining(settings.getDailyQuota())));
+            status.put("reserved", settings.getReservedQuota());
+        }
+        status.put("requestsPerMinute", settings.getRequestsPerMinute());
+        status.put("resetsAt", nextReset());
+        return status;
+    }
+    
+    private static LocalDate today() {
+        return LocalDate.now(ZoneOffset.UTC);
+    }
+    
+    private static String nextReset() {
+        return today().plusDays(1).atStartOfDay(ZoneOffset.UTC).toString();
+    }
+    
+    private void load() {
+        if (!Files.exists(stateFile)) {
+            return;
+        }
+        Properties state = new Properties();
+        try (Reader reader = Files.newBufferedReader(stateFile)) {
+            state.load(reader);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Could not read provider quota state from {}: {}", stateFile, e.getMessage());
+            return;
+        }
+        for (String key : state.stringPropertyNames()) {
+            if (key.endsWith(".day")) {
+                String provider = key.substring(0, key.length() - ".day".length());
+                Budget budget = new Budget();
+                budget.day = LocalDate.parse(state.getProperty(key));
+                budget.used = Integer.parseInt(state.getProperty(provider + ".used", "0"));
+                budget.exhausted = Boolean.parseBoolean(state.getProperty(provider + ".exhausted"));
+                budget.rollOver();
+                budgets.put(provider, budget);
+            }
+        }
+        log.info("Loaded provider quota usage from {}", stateFile);
+    }
+    
+    /**
+     * Write the state on a worker thread; requests made before the write starts are included in it
+     */
+    private void schedulePersist() {
+        if (writePending.compareAndSet(false, true)) {
+            Schedulers.boundedElastic().schedule(() -> {
+                writePending.set(false);
+                persist();
+            });
+        }
+    }
+    
+    @PreDestroy
+    void flush() {
+        persist();
+    }
+    
+    /**
+     * Write the daily usage of every provider; a failure is logged and the in-memory budget stays authoritative
+     */
+    private synchronized void persist() {
+        Properties state = new Properties();
+        budgets.forEach((provider, budget) -> {
+            synchronized (budget) {
+                state.setProperty(provider + ".day", budget.day.toString());
+                state.setProperty(provider + ".used", Integer.toString(budget.used));
+                state.setProperty(provider + ".exhausted", Boolean.toString(budget.exhausted));
+            }
+        });
+        try {
+            Path directory = stateFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "provider-quota", ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp)) {
+                state.store(writer, "Provider requests used per UTC day");
+            }
+            Files.move(temp, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not write provider quota state to {}: {}", stateFile, e.getMessage());
+        }
+    }
+    
+    private static final class Budget {
+        
+        private LocalDate day = today();
+        private int used;
+        private boolean exhausted;
+        private long tokensAt = System.nanoTime() - TimeUnit.DAYS.toNanos(1); // bucket starts full
+        
+        void rollOver() {
+            LocalDate today = today();
+            if (!today.equals(day)) {
+                day = today;
+                used = 0;
+                exhausted = false;
+            }
+        }
+        
+        int remaining(int dailyQuota) {
+            if (exhausted) {
+                return 0;
+            }
+            return dailyQuota > 0 ? dailyQuota - used : Integer.MAX_VALUE;
+        }
+        
+        /**
+         * Token bucket kept as the time at which it will be full again (GCRA): each request pushes that time
+         * one token later, and a request must wait while it lies more than {@code burst} tokens ahead
+         */
+        Duration take(int requestsPerMinute, int burst) {
+            long interval = TimeUnit.MINUTES.toNanos(1) / Math.max(1, requestsPerMinute);
+            long now = System.nanoTime();
+            tokensAt = Math.max(tokensAt, now) + interval;
+            return Duration.ofNanos(Math.max(0, tokensAt - now - Math.max(1, burst) * interval));
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package com.sourav.aurora.provider;
+
+import com.sourav.aurora.config.NewsProviderConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * HTTP cache under the provider {@code WebClient}. Successful GET responses are kept on disk, gzip-compressed,
+ * keyed by the request URL without its API key, together with their {@code ETag}, {@code Last-Modified} and
+ * {@code Cache-Control: max-age}. While a response is fresh no request is sent at all; afterwards the request
+ * carries {@code If-None-Match}/{@code If-Modified-Since}, and a 304 is answered with the stored body. Replayed
+ * bodies are parsed again, so that articles whose save failed are not lost; providers stop reading at the first
+ * article behind their high-water mark, and the URL check drops the rest. The least recently used responses are
+ * deleted once the directory exceeds {@code maxSize}.
+ */
+@Component
+@Slf4j
+public class ProviderResponseCache implements ExchangeFilterFunction {
+    
+    private static final Set<String> CREDENTIAL_PARAMS = Set.of("apikey", "api_key", "token");
+    private static final String BODY_SUFFIX = ".gz";
+    private static final String META_SUFFIX = ".meta";
+    
+    private final boolean enabled;
+    private final Path directory;
+    private final long maxBytes;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong storedBytes = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+    
+    public ProviderResponseCache(NewsProviderConfig config, MeterRegistry meterRegistry) {
+        NewsProviderConfig.ProviderCache settings = config.getProviderCache();
+        this.enabled = settings.isEnabled();
+        this.directory = Path.of(settings.getDirectory());
+        this.maxBytes = settings.getMaxSize().toBytes();
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("aurora.provider.cache.size", storedBytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .description("Compressed provider responses kept on disk")
+                .register(meterRegistry);
+        if (enabled) {
+            load();
+        }
+    }
+    
+    /**
+     * Whether a GET of this URL would be answered from the cache without contacting the provider
+     */
+    public boolean isFresh(URI url) {
+        Entry entry = enabled ? entries.get(id(cacheKey(url))) : null;
+        return entry != null && entry.isFresh();
+    }
+    
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!enabled || request.method() != HttpMethod.GET) {
+            return next.exchange(request);
+        }
+        String key = cacheKey(request.url());
+        String id = id(key);
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            count("miss");
+            return next.exchange(request).map(response -> capture(id, key, response));
+        }
+        if (entry.isFresh()) {
+            count("fresh");
+            return replay(id, entry).switchIfEmpty(Mono.defer(() -> next.exchange(request)));
+        }
+        
+        ClientRequest conditional = ClientRequest.from(request)
+                .headers(headers -> {
+                    if (entry.etag != null) {
+                        headers.set(HttpHeaders.IF_NONE_MATCH, entry.etag);
+                    }
+                    if (entry.lastModified != null) {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, entry.lastModified);
+                    }
+                })
+                .build();
+        return next.exchange(conditional).flatMap(response -> {
+            if (!response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                count("changed");
+                return Mono.just(capture(id, key, response));
+            }
+            count("not_modified");
+            entry.revalidate(maxAge(response.headers().asHttpHeaders()));
+            return response.releaseBody()
+                    .then(Mono.fromRunnable(() -> writeMeta(id, entry)).subscribeOn(Schedulers.boundedElastic()))
+                    .then(replay(id, entry))
+                    .switchIfEmpty(Mono.defer(() -> next.exchange(request)));
+        });
+    }
+    
+    /**
+     * The stored response. Empty when the body cannot be read.
+     */
+    private Mono<ClientResponse> replay(String id, Entry entry) {
+        entry.lastUsed = System.currentTimeMillis();
+        return Mono.fromCallable(() -> {
+                    try (InputStream in = new GZIPInputStream(Files.newInputStream(directory.resolve(id + BODY_SUFFIX)))) {
+                        return in.readAllBytes();
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(body -> ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, entry.contentType)
+                        .body(Mono.<DataBuffer>just(DefaultDataBufferFactory.sharedInstance.wrap(body)).flux())
+                        .build())
+                .onErrorResume(IOException.class, e -> {
+                    log.warn("Dropping unreadable cached provider response {}: {}", entry.key, e.getMessage());
+                    remove(id);
+                    return Mono.empty();
+                });
+    }
+    
+    /**
+     * Pass the body through while compressing a copy, stored once the body has been read to the end
+     */
+    private ClientResponse capture(String id, String key, ClientResponse response) {
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        String cacheControl = String.valueOf(headers.getCacheControl());
+        String etag = headers.getETag();
+        String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        long maxAge = maxAge(headers);
+        if (!response.statusCode().isSameCodeAs(HttpStatus.OK) || cacheControl.contains("no-store")
+                || (etag == null && lastModified == null && maxAge <= 0)) {
+            return response;
+        }
+        
+        Entry entry = new Entry(key, etag, lastModified, String.valueOf(headers.getContentType()), maxAge);
+        AtomicBoolean reading = new AtomicBoolean();
+        return response.mutate()
+                .body(body -> Flux.defer(() -> reading.compareAndSet(false, true)
+                        ? readThrough(id, entry, body)
+                        : Flux.error(new IllegalStateException("The body of " + key + " is already being read"))))
+                .build();
+    }
+    
+    /**
+     * Read the body to the end whether or not the consumer does. Providers stop reading at the first article
+     * they have seen before, and the response is still worth keeping: the buffers go to the consumer until it
+     * cancels and are released from then on.
+     */
+    private Flux<DataBuffer> readThrough(String id, Entry entry, Flux<DataBuffer> body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        GZIPOutputStream gzip = gzip(compressed);
+        Sinks.Many<DataBuffer> consumer = Sinks.many().unicast().onBackpressureBuffer();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        body.subscribe(
+                buffer -> {
+                    copy(buffer, gzip);
+                    if (cancelled.get() || consumer.tryEmitNext(buffer).isFailure()) {
+                        DataBufferUtils.release(buffer);
+                    }
+                },
+                consumer::tryEmitError,
+                () -> {
+                    finish(gzip);
+                    byte[] bytes = compressed.toByteArray();
+                    Schedulers.boundedElastic().schedule(() -> store(id, entry, bytes));
+                    consumer.tryEmitComplete();
+                });
+        return consumer.asFlux()
+                .doOnCancel(() -> cancelled.set(true))
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+    
+    private void store(String id, Entry entry, byte[] body) {
+        if (body.length > maxBytes) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            replace(directory.resolve(id + BODY_SUFFIX), out -> out.write(body));
+            entry.size = body.length;
+            writeMeta(id, entry);
+            Entry previous = entries.put(id, entry);
+            storedBytes.addAndGet(body.length - (previous != null ? previous.size : 0));
+            evict();
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Could not store provider response {}: {}", entry.key, e.getMessage());
+        }
+    }
+    
+    private void writeMeta(String id, Entry entry) {
+        Properties meta = new Properties();
+        meta.setProperty("key", entry.key);
+        meta.setProperty("contentType", entry.contentType);
+        meta.setProperty("storedAt", Long.toString(entry.storedAt));
+        meta.setProperty("maxAge", Long.toString(entry.maxAge));
+        if (entry.etag != null) {
+            meta.setProperty("etag", entry.etag);
+        }
+        if (entry.lastModified != null) {
+            meta.setProperty("lastModified", entry.lastModified);
+        }
+        try {
+            replace(directory.resolve(id + META_SUFFIX), out -> {
+                try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+                    meta.store(writer, null);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("Could not store provider response metadata {}: {}", entry.key, e.getMessage());
+        }
+    }
+    
+    /**
+     * Delete least recently used responses until the stored bodies fit within {@code maxSize}
+     */
+    private synchronized void evict() {
+        while (storedBytes.get() > maxBytes && !entries.isEmpty()) {
+            entries.entrySet().stream()
+                    .min((a, b) -> Long.compare(a.getValue().lastUsed, b.getValue().lastUsed))
+                    .ifPresent(eldest -> remove(eldest.getKey()));
+        }
+    }
+    
+    private void remove(String id) {
+        Entry entry = entries.remove(id);
+        if (entry != null) {
+            storedBytes.addAndGet(-entry.size);
+        }
+        try {
+            Files.deleteIfExists(directory.resolve(id + BODY_SUFFIX));
+            Files.deleteIfExists(directory.resolve(id + META_SUFFIX));
+        } catch (IOException e) {
+            log.warn("Could not delete cached provider response {}: {}", id, e.getMessage());
+        }
+    }
+    
+    private void load() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> metaFiles = Files.newDirectoryStream(directory, "*" + META_SUFFIX)) {
+            for (Path metaFile : metaFiles) {
+                String fileName = metaFile.getFileName().toString();
+                String id = fileName.substring(0, fileName.length() - META_SUFFIX.length());
+                Path bodyFile = directory.resolve(id + BODY_SUFFIX);
+                Properties meta = new Properties();
+                try (Reader reader = Files.newBufferedReader(metaFile)) {
+                    meta.load(reader);
+                    Entry entry = new Entry(meta.getProperty("key"), meta.getProperty("etag"), meta.getProperty("lastModified"),
+                            meta.getProperty("contentType"), Long.parseLong(meta.getProperty("maxAge", "0")));
+                    entry.storedAt = Long.parseLong(meta.getProperty("storedAt"));
+                    entry.lastUsed = entry.storedAt;
+                    entry.size = Files.size(bodyFile);
+                    entries.put(id, entry);
+                    storedBytes.addAndGet(entry.size);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Dropping unreadable cached provider response {}: {}", id, e.getMessage());
+                    Files.deleteIfExists(metaFile);
+                    Files.deleteIfExists(bodyFile);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not read the provider response cache in {}: {}", directory, e.getMessage());
+        }
+        evict();
+        log.info("Loaded {} cached provider responses ({} bytes) from {}", entries.size(), storedBytes.get(), directory);
+    }
+    
+    /**
+     * The request URL with credentials removed, so that neither the key nor a changed key ends up in the cache
+     */
+    static String cacheKey(URI url) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUri(url);
+        builder.build().getQueryParams().keySet().stream()
+                .filter(name -> CREDENTIAL_PARAMS.contains(name.toLowerCase()))
+                .toList()
+                .forEach(builder::replaceQueryParam);
+        return builder.build().toUriString();
+    }
+    
+    private static String id(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private static long maxAge(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl == null || cacheControl.contains("no-cache")) {
+            return 0;
+        }
+        for (String directive : cacheControl.split(",")) {
+            String trimmed = directive.trim();
+            if (trimmed.startsWith("max-age=")) {
+                try {
+                    return Long.parseLong(trimmed.substring("max-age=".length()));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+    
+    private void count(String outcome) {
+        Counter.builder("aurora.provider.cache")
+                .tag("outcome", outcome)
+                .description("Provider GET requests by how the response cache answered them")
+                .register(meterRegistry)
+                .increment();
+    }
+    
+    private static GZIPOutputStream gzip(ByteArrayOutputStream target) {
+        try {
+            return new GZIPOutputStream(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private static void copy(DataBuffer buffer, OutputStream target) {
+        try (DataBuffer.ByteBufferIterator buffers = buffer.readableByteBuffers()) {
+            while (buffers.hasNext()) {
+                ByteBuffer chunk = buffers.next();
+                byte[] bytes = new byte[chunk.remaining()];
+                chunk.get(bytes);
+                target.write(bytes);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private static void finish(GZIPOutputStream gzip) {
+        try {
+            gzip.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private void replace(Path file, FileWrite write) throws IOException {
+        Path temp = Files.createTempFile(directory, "provider-response", ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            write.to(out);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    @FunctionalInterface
+    private interface FileWrite {
+        void to(OutputStream out) throws IOException;
+    }
+    
+    private static final class Entry {
+        
+        private final String key;
+        private final String etag;
+        private final String lastModified;
+        private final String contentType;
+        private volatile long maxAge;
+        private volatile long storedAt = System.currentTimeMillis();
+        private volatile long lastUsed = storedAt;
+        private volatile long size;
+        
+        Entry(String key, String etag, String lastModified, String contentType, long maxAge) {
+            this.key = key;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.contentType = contentType;
+            this.maxAge = maxAge;
+        }
+        
+        boolean isFresh() {
+            return System.currentTimeMillis() < storedAt + maxAge * 1000;
+        }
+        
+        void revalidate(long newMaxAge) {
+            maxAge = newMaxAge;
+            storedAt = System.currentTimeMillis();
+            lastUsed = storedAt;
+        }
+    }
+}
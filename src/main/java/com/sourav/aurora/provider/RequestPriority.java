@@ -0,0 +1,39 @@
+package com.sourav.aurora.provider;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Who a provider request is made for, carried in the Reactor context of the fetch. As a provider's daily
+ * quota runs low, lower priorities stop first, so the last requests of the day stay available to users.
+ */
+public enum RequestPriority {
+    
+    /** User-triggered refresh; the default when the context carries no priority */
+    HIGH(0),
+    /** Scheduled refresh of the main listings */
+    NORMAL(1),
+    /** Trending topics, cache warmup and similar background work */
+    LOW(2);
+    
+    private final int reservedShares;
+    
+    RequestPriority(int reservedShares) {
+        this.reservedShares = reservedShares;
+    }
+    
+    /**
+     * Requests this priority has to leave untouched, given the provider's {@code reservedQuota}
+     */
+    public int untouchable(int reservedQuota) {
+        return reservedShares * reservedQuota;
+    }
+    
+    public Context context() {
+        return Context.of(RequestPriority.class, this);
+    }
+    
+    public static RequestPriority from(ContextView context) {
+        return context.getOrDefault(RequestPriority.class, HIGH);
+    }
+}
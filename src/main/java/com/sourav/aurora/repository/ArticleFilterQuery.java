@@ -0,0 +1,88 @@
+package com.sourav.aurora.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Native SQL for the filtered article listing. Only the filters actually supplied become predicates,
+ * so each combination gets its own plan and can use the matching index declared on {@code Article}
+ * instead of one generic {@code (:x IS NULL OR x = :x)} plan that scans the table.
+ */
+final class ArticleFilterQuery {
+    
+    private static final String FROM = " FROM news_articles";
+    private static final String LISTING_ORDER = " ORDER BY published_at DESC, fetched_at DESC, id DESC";
+    
+    private final List<String> predicates = new ArrayList<>();
+    private final List<Object> parameters = new ArrayList<>();
+    
+    private ArticleFilterQuery() {
+    }
+    
+    static ArticleFilterQuery of(String country, String language, String category, String keyword) {
+        ArticleFilterQuery query = new ArticleFilterQuery();
+        if (country != null) {
+            query.where("country = ?", country);
+        }
+        if (language != null) {
+            query.where("language = ?", language);
+        }
+        if (category != null) {
+            query.where("category = ?", category);
+        }
+        if (keyword != null) {
+            String pattern = "%" + keyword.toLowerCase(Locale.ROOT) + "%";
+            query.where("(LOWER(title) LIKE ? OR LOWER(description) LIKE ?)", pattern, pattern);
+        }
+        return query;
+    }
+    
+    /**
+     * Restrict to rows strictly after the given (publishedAt, fetchedAt, id) position in listing order.
+     * The leading {@code published_at <= ?} bound turns the seek into an index range scan.
+     */
+    ArticleFilterQuery after(LocalDateTime publishedAt, LocalDateTime fetchedAt, long id) {
+        where("published_at <= ?", publishedAt);
+        where("(published_at < ? OR (published_at = ? AND (fetched_at < ? OR (fetched_at = ? AND id < ?))))",
+                publishedAt, publishedAt, fetchedAt, fetchedAt, id);
+        return this;
+    }
+    
+    String selectSql() {
+        return selectSql("*");
+    }
+    
+    String selectSql(String columns) {
+        return "SELECT " + columns + FROM + whereClause() + LISTING_ORDER;
+    }
+    
+    String countSql() {
+        return "SELECT COUNT(*)" + FROM + whereClause();
+    }
+    
+    /**
+     * Bind values in the order of the numbered {@code ?n} placeholders
+     */
+    List<Object> parameters() {
+        return parameters;
+    }
+    
+    private void where(String predicate, Object... values) {
+        StringBuilder numbered = new StringBuilder();
+        int next = 0;
+        for (char c : predicate.toCharArray()) {
+            numbered.append(c);
+            if (c == '?') {
+                parameters.add(values[next++]);
+                numbered.append(parameters.size());
+            }
+        }
+        predicates.add(numbered.toString());
+    }
+    
+    private String whereClause() {
+        return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+    }
+}
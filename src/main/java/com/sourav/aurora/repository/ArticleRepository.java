@@ -1,8 +1,6 @@
 package com.sourav.aurora.repository;
 
 import com.sourav.aurora.model.Article;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,43 +8,39 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
-public interface ArticleRepository extends JpaRepository<Article, Long> {
+public interface ArticleRepository extends JpaRepository<Article, Long>, ArticleRepositoryCustom {
     
     Optional<Article> findByUrl(String url);
     
-    List<Article> findByFetchedAtAfter(LocalDateTime dateTime);
+    @Query("SELECT a.url FROM Article a WHERE a.url IN :urls")
+    Set<String> findExistingUrls(@Param("urls") Collection<String> urls);
     
-    @Query("SELECT a FROM Article a WHERE " +
-           "(:country IS NULL OR a.country = :country) AND " +
-           "(:language IS NULL OR a.language = :language) AND " +
-           "(:category IS NULL OR a.category = :category) AND " +
-           "(:keyword IS NULL OR LOWER(a.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(a.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-           "ORDER BY a.publishedAt DESC, a.fetchedAt DESC")
-    Page<Article> findArticlesWithFilters(
-            @Param("country") String country,
-            @Param("language") String language, 
-            @Param("category") String category,
-            @Param("keyword") String keyword,
-            Pageable pageable);
+    List<Article> findByFetchedAtAfter(LocalDateTime dateTime);
     
     @Query("SELECT a FROM Article a WHERE a.fetchedAt >= :startOfDay ORDER BY a.publishedAt DESC")
     List<Article> findTodaysArticles(@Param("startOfDay") LocalDateTime startOfDay);
     
-    @Query("SELECT DISTINCT a.country FROM Article a WHERE a.country IS NOT NULL ORDER BY a.country")
-    List<String> findDistinctCountries();
+    @Query("SELECT a.country AS name, COUNT(a) AS articleCount FROM Article a WHERE a.country IS NOT NULL GROUP BY a.country")
+    List<FacetCount> countByCountry();
+    
+    @Query("SELECT a.language AS name, COUNT(a) AS articleCount FROM Article a WHERE a.language IS NOT NULL GROUP BY a.language")
+    List<FacetCount> countByLanguage();
     
-    @Query("SELECT DISTINCT a.language FROM Article a WHERE a.language IS NOT NULL ORDER BY a.language")
-    List<String> findDistinctLanguages();
+    @Query("SELECT a.category AS name, COUNT(a) AS articleCount FROM Article a WHERE a.category IS NOT NULL GROUP BY a.category")
+    List<FacetCount> countByCategory();
     
-    @Query("SELECT DISTINCT a.category FROM Article a WHERE a.category IS NOT NULL ORDER BY a.category")
-    List<String> findDistinctCategories();
+    @Query("SELECT a.source AS name, COUNT(a) AS articleCount FROM Article a GROUP BY a.source")
+    List<FacetCount> countBySource();
     
-    @Query("SELECT DISTINCT a.source FROM Article a ORDER BY a.source")
-    List<String> findDistinctSources();
+    @Query("SELECT a.country AS country, a.language AS language, a.category AS category, a.source AS source, COUNT(a) AS articleCount " +
+            "FROM Article a WHERE a.fetchedAt < :cutoffDate GROUP BY a.country, a.language, a.category, a.source")
+    List<FacetBreakdown> countFacetsFetchedBefore(@Param("cutoffDate") LocalDateTime cutoffDate);
     
     @Modifying
     @Query("DELETE FROM Article a WHERE a.fetchedAt < :cutoffDate")
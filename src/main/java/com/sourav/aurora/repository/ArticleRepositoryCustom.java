@@ -0,0 +1,74 @@
+package com.sourav.aurora.repository;
+
+import com.sourav.aurora.dto.CompactArticleDto;
+import com.sourav.aurora.model.Article;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Custom repository operations that go beyond derived and annotated queries
+ */
+public interface ArticleRepositoryCustom {
+    
+    /**
+     * Insert new articles in their own transaction as a single JDBC batch
+     */
+    void insertBatch(List<Article> articles);
+    
+    /**
+     * Stream every stored article URL to the consumer without materializing the full list
+     */
+    void forEachUrl(Consumer<String> consumer);
+    
+    /**
+     * Stream every stored article to the consumer; entities are detached once consumed
+     */
+    void forEachArticle(Consumer<Article> consumer);
+    
+    /**
+     * Filtered listing in (publishedAt, fetchedAt, id) descending order; null filters are left out of the query.
+     * The keyword matches title or description case-insensitively as a substring.
+     */
+    Page<Article> findArticlesWithFilters(String country, String language, String category, String keyword, Pageable pageable);
+    
+    /**
+     * One page of the filtered listing without counting the matches. The listing order is fixed, so the
+     * sort of the pageable is ignored.
+     */
+    List<Article> findArticlePageWithFilters(String country, String language, String category, String keyword, Pageable pageable);
+    
+    /**
+     * Rows {@code [offset, offset + limit)} of the filtered listing, e.g. a page plus one row to learn whether another follows
+     */
+    List<Article> findArticleRangeWithFilters(String country, String language, String category, String keyword, long offset, int limit);
+    
+    /**
+     * Keyset page: the articles strictly after the given (publishedAt, fetchedAt, id) position in listing order
+     */
+    List<Article> findArticlesAfter(String country, String language, String category, String keyword,
+                                    LocalDateTime publishedAt, LocalDateTime fetchedAt, long id, Limit limit);
+    
+    long countArticlesWithFilters(String country, String language, String category, String keyword);
+    
+    /**
+     * {@link #findArticleRangeWithFilters} reading only the columns a news card shows, without loading entities
+     */
+    List<CompactArticleDto> findCompactRangeWithFilters(String country, String language, String category, String keyword, long offset, int limit);
+    
+    /**
+     * {@link #findArticlesAfter} reading only the columns a news card shows, without loading entities
+     */
+    List<CompactArticleDto> findCompactAfter(String country, String language, String category, String keyword,
+                                             LocalDateTime publishedAt, LocalDateTime fetchedAt, long id, Limit limit);
+    
+    /**
+     * Compact rows for the given ids, in no particular order
+     */
+    List<CompactArticleDto> findCompactByIds(Collection<Long> ids);
+}
@@ -0,0 +1,186 @@
+package com.sourav.aurora.repository;
+
+import com.sourav.aurora.dto.CompactArticleDto;
+import com.sourav.aurora.model.Article;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JPA implementation of {@link ArticleRepositoryCustom}
+ */
+public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
+    
+    private static final int FETCH_SIZE = 1000;
+    // Card columns only; the TEXT columns are cut to a teaser in the database so only that prefix is read back
+    private static final String COMPACT_COLUMNS = "id, title, "
+            + "CAST(SUBSTRING(COALESCE(summary, description), 1, " + CompactArticleDto.TEASER_LENGTH + ") "
+            + "AS VARCHAR(" + CompactArticleDto.TEASER_LENGTH + ")), "
+            + "url, source, category, country, published_at, fetched_at, image_url";
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void insertBatch(List<Article> articles) {
+        // Pooled sequence IDs let Hibernate group these into one batched INSERT on flush
+        for (Article article : articles) {
+            entityManager.persist(article);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachUrl(Consumer<String> consumer) {
+        entityManager.createQuery("SELECT a.url FROM Article a", String.class)
+                .setHint("org.hibernate.fetchSize", FETCH_SIZE)
+                .getResultStream()
+                .forEach(consumer);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachArticle(Consumer<Article> consumer) {
+        entityManager.createQuery("SELECT a FROM Article a ORDER BY a.id", Article.class)
+                .setHint("org.hibernate.fetchSize", FETCH_SIZE)
+                .getResultStream()
+                .forEach(article -> {
+                    consumer.accept(article);
+                    entityManager.detach(article);
+                });
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Article> findArticlesWithFilters(String country, String language, String category, String keyword, Pageable pageable) {
+        List<Article> content = findArticlePageWithFilters(country, language, category, keyword, pageable);
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> countArticlesWithFilters(country, language, category, keyword));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Article> findArticlePageWithFilters(String country, String language, String category, String keyword, Pageable pageable) {
+        Query query = select(ArticleFilterQuery.of(country, language, category, keyword));
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return resultList(query);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Article> findArticleRangeWithFilters(String country, String language, String category, String keyword, long offset, int limit) {
+        Query query = select(ArticleFilterQuery.of(country, language, category, keyword))
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit);
+        return resultList(query);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Article> findArticlesAfter(String country, String language, String category, String keyword,
+                                           LocalDateTime publishedAt, LocalDateTime fetchedAt, long id, Limit limit) {
+        Query query = select(ArticleFilterQuery.of(country, language, category, keyword).after(publishedAt, fetchedAt, id));
+        if (limit.isLimited()) {
+            query.setMaxResults(limit.max());
+        }
+        return resultList(query);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public long countArticlesWithFilters(String country, String language, String category, String keyword) {
+        ArticleFilterQuery filter = ArticleFilterQuery.of(country, language, category, keyword);
+        Query query = bind(entityManager.createNativeQuery(filter.countSql()), filter);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<CompactArticleDto> findCompactRangeWithFilters(String country, String language, String category, String keyword, long offset, int limit) {
+        ArticleFilterQuery filter = ArticleFilterQuery.of(country, language, category, keyword);
+        Query query = bind(entityManager.createNativeQuery(filter.selectSql(COMPACT_COLUMNS)), filter)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit);
+        return compactRows(query);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<CompactArticleDto> findCompactAfter(String country, String language, String category, String keyword,
+                                                    LocalDateTime publishedAt, LocalDateTime fetchedAt, long id, Limit limit) {
+        ArticleFilterQuery filter = ArticleFilterQuery.of(country, language, category, keyword).after(publishedAt, fetchedAt, id);
+        Query query = bind(entityManager.createNativeQuery(filter.selectSql(COMPACT_COLUMNS)), filter);
+        if (limit.isLimited()) {
+            query.setMaxResults(limit.max());
+        }
+        return compactRows(query);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<CompactArticleDto> findCompactByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return compactRows(entityManager.createNativeQuery("SELECT " + COMPACT_COLUMNS + " FROM news_articles WHERE id IN (?1)")
+                .setParameter(1, ids));
+    }
+    
+    private Query select(ArticleFilterQuery filter) {
+        return bind(entityManager.createNativeQuery(filter.selectSql(), Article.class), filter);
+    }
+    
+    private static Query bind(Query query, ArticleFilterQuery filter) {
+        List<Object> parameters = filter.parameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            query.setParameter(i + 1, parameters.get(i));
+        }
+        return query;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static List<Article> resultList(Query query) {
+        return query.getResultList();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static List<CompactArticleDto> compactRows(Query query) {
+        List<Object[]> rows = query.getResultList();
+        return rows.stream()
+                .map(row -> new CompactArticleDto(
+                        ((Number) row[0]).longValue(),
+                        (String) row[1],
+                        (String) row[2],
+                        (String) row[3],
+                        (String) row[4],
+                        (String) row[5],
+                        (String) row[6],
+                        toLocalDateTime(row[7]),
+                        toLocalDateTime(row[8]),
+                        (String) row[9]))
+                .toList();
+    }
+    
+    private static LocalDateTime toLocalDateTime(Object value) {
+        // Native scalar queries return JDBC timestamps
+        return value != null ? ((Timestamp) value).toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.sourav.aurora.repository;
+
+/**
+ * Projection of one combination of facet values and the number of articles carrying it
+ */
+public interface FacetBreakdown {
+    
+    String getCountry();
+    
+    String getLanguage();
+    
+    String getCategory();
+    
+    String getSource();
+    
+    long getArticleCount();
+}
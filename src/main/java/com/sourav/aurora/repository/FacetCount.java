@@ -0,0 +1,11 @@
+package com.sourav.aurora.repository;
+
+/**
+ * Projection of a facet value and the number of articles carrying it
+ */
+public interface FacetCount {
+    
+    String getName();
+    
+    long getArticleCount();
+}
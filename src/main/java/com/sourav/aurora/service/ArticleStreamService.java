@@ -0,0 +1,134 @@
+package com.sourav.aurora.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sourav.aurora.config.NewsProviderConfig;
+import com.sourav.aurora.dto.ArticleDto;
+import com.sourav.aurora.dto.NewsQuery;
+import com.sourav.aurora.event.ArticlesSavedEvent;
+import com.sourav.aurora.model.Article;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes newly saved articles to Server-Sent Events subscribers. Every article gets a sequence number used
+ * as the event id; the most recent events are kept so that a client reconnecting with {@code Last-Event-ID}
+ * receives what it missed. Each subscriber has its own bounded buffer: a client that reads too slowly
+ * loses its oldest pending events instead of holding back the others or growing the heap.
+ */
+@Service
+@Slf4j
+public class ArticleStreamService {
+    
+    static final String EVENT_ARTICLE = "article";
+    static final String EVENT_RESET = "reset";
+    
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int historySize;
+    private final Sinks.Many<StreamedArticle> sink;
+    private final Flux<ServerSentEvent<String>> heartbeats;
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final Counter dropped;
+    private volatile long lastSequence;
+    
+    public ArticleStreamService(ObjectMapper objectMapper, NewsProviderConfig config, MeterRegistry meterRegistry) {
+        NewsProviderConfig.Stream settings = config.getStream();
+        this.objectMapper = objectMapper;
+        this.bufferSize = settings.getBufferSize();
+        this.historySize = settings.getHistorySize();
+        this.sink = Sinks.many().replay().limit(historySize);
+        // One timer for all subscribers; each drops ticks it is not ready for
+        this.heartbeats = Flux.interval(Duration.ofSeconds(settings.getHeartbeatInterval()))
+                .map(tick -> ServerSentEvent.<String>builder().comment("heartbeat").build())
+                .share();
+        this.dropped = Counter.builder("aurora.stream.dropped")
+                .description("Stream events dropped because a subscriber's buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("aurora.stream.subscribers", subscribers, AtomicInteger::get)
+                .description("Open news stream connections")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Live events of articles matching the filter. With a {@code lastEventId} the retained events after it
+     * are replayed first; a {@code reset} event tells the client when some of them are no longer retained,
+     * so it should reload its listing. An id from before a restart replays everything retained.
+     */
+    public Flux<ServerSentEvent<String>> subscribe(NewsQuery filter, String lastEventId) {
+        return Flux.defer(() -> {
+            long current = lastSequence;
+            long after = resumeAfter(lastEventId, current);
+            Flux<ServerSentEvent<String>> articles = sink.asFlux()
+                    .filter(event -> event.sequence() > after && filter.matches(event.article()))
+                    .map(StreamedArticle::toEvent)
+                    .onBackpressureBuffer(bufferSize, event -> dropped.increment(), BufferOverflowStrategy.DROP_OLDEST);
+            Flux<ServerSentEvent<String>> events = Flux.merge(articles, heartbeats.onBackpressureDrop());
+            if (after < current - historySize) {
+                events = events.startWith(ServerSentEvent.<String>builder().event(EVENT_RESET).data("").build());
+            }
+            return events
+                    .doOnSubscribe(subscription -> subscribers.incrementAndGet())
+                    .doFinally(signal -> subscribers.decrementAndGet());
+        });
+    }
+    
+    /**
+     * Serialized once here rather than per subscriber. Synchronized because the sink accepts one emitter at a time.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onArticlesSaved(ArticlesSavedEvent event) {
+        for (Article article : event.articles()) {
+            StreamedArticle streamed = new StreamedArticle(lastSequence + 1, article, toJson(article));
+            Sinks.EmitResult result = sink.tryEmitNext(streamed);
+            if (result.isFailure()) {
+                log.warn("Could not stream article {}: {}", article.getUrl(), result);
+                continue;
+            }
+            lastSequence = streamed.sequence();
+        }
+        log.debug("Streamed {} articles to {} subscribers", event.articles().size(), subscribers.get());
+    }
+    
+    private static long resumeAfter(String lastEventId, long current) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return current;
+        }
+        try {
+            long id = Long.parseLong(lastEventId.trim());
+            return id > current ? 0 : id;
+        } catch (NumberFormatException e) {
+            return current;
+        }
+    }
+    
+    private String toJson(Article article) {
+        try {
+            return objectMapper.writeValueAsString(ArticleDto.fromEntity(article));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize streamed article " + article.getUrl(), e);
+        }
+    }
+    
+    private record StreamedArticle(long sequence, Article article, String json) {
+        
+        ServerSentEvent<String> toEvent() {
+            return ServerSentEvent.<String>builder()
+                    .id(Long.toString(sequence))
+                    .event(EVENT_ARTICLE)
+                    .data(json)
+                    .build();
+        }
+    }
+}
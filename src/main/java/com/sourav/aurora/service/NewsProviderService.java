@@ -2,11 +2,13 @@ package com.sourav.aurora.service;
 
 import com.sourav.aurora.constants.ApplicationConstants;
 import com.sourav.aurora.provider.NewsProvider;
+import com.sourav.aurora.provider.ProviderQuotaLedger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -20,6 +22,7 @@ import java.util.stream.Collectors;
 public class NewsProviderService {
     
     private final List<NewsProvider> newsProviders;
+    private final ProviderQuotaLedger quotaLedger;
     
     /**
      * Get all enabled and healthy providers sorted by priority
@@ -62,7 +65,8 @@ public class NewsProviderService {
                                 "enabled", provider.isEnabled(),
                                 "healthy", provider.isHealthy(),
                                 "priority", provider.getPriority(),
-                                "lastSuccessfulFetch", provider.getLastSuccessfulFetch()
+                                "lastSuccessfulFetch", provider.getLastSuccessfulFetch(),
+                                "circuit", provider.getCircuitStatus()
                         )
                 ));
         
@@ -78,6 +82,17 @@ public class NewsProviderService {
         return healthStatus;
     }
     
+    /**
+     * Daily quota usage of each provider, in priority order
+     */
+    public Map<String, Object> getProviderQuotaStatus() {
+        Map<String, Object> quotaStatus = new LinkedHashMap<>();
+        for (NewsProvider provider : getAllProviders()) {
+            quotaStatus.put(provider.getProviderName(), quotaLedger.status(provider.getProviderName(), provider.getConfig()));
+        }
+        return quotaStatus;
+    }
+    
     /**
      * Get supported countries from all providers
      */
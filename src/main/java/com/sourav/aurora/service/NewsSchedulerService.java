@@ -2,15 +2,24 @@ package com.sourav.aurora.service;
 
 import com.sourav.aurora.config.NewsProviderConfig;
 import com.sourav.aurora.constants.ApplicationConstants;
+import com.sourav.aurora.event.ArticlesPurgedEvent;
+import com.sourav.aurora.provider.RequestPriority;
 import com.sourav.aurora.repository.ArticleRepository;
+import com.sourav.aurora.repository.FacetBreakdown;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Scheduler service for automatic news operations
@@ -24,6 +33,9 @@ public class NewsSchedulerService {
     private final NewsProviderService providerService;
     private final ArticleRepository articleRepository;
     private final NewsProviderConfig config;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RefreshPlanner refreshPlanner;
+    private final Executor virtualThreadExecutor;
     
     /**
      * Automatically refresh news from all providers
@@ -34,39 +46,13 @@ public class NewsSchedulerService {
     public void refreshNewsAutomatically() {
         log.info("Starting automatic news refresh");
         
-        try {
-            // Refresh news with default parameters to get general news
-            newsService.refreshNews(
-                ApplicationConstants.DEFAULT_COUNTRY,
-                ApplicationConstants.DEFAULT_LANGUAGE,
-                ApplicationConstants.DEFAULT_CATEGORY,
-                null
-            );
-            
-            // Also refresh some popular categories
-            String[] popularCategories = {"technology", "business", "health", "sports"};
-            for (String category : popularCategories) {
-                try {
-                    newsService.refreshNews(
-                        ApplicationConstants.DEFAULT_COUNTRY,
-                        ApplicationConstants.DEFAULT_LANGUAGE,
-                        category,
-                        null
-                    );
-                    
-                    // Small delay between requests to avoid rate limiting
-                    Thread.sleep(1000);
-                    
-                } catch (Exception e) {
-                    log.warn("Failed to refresh news for category {}: {}", category, e.getMessage());
-                }
-            }
-            
-            log.info("Automatic news refresh completed successfully");
-            
-        } catch (Exception e) {
-            log.error("Error during automatic news refresh", e);
-        }
+        // General news plus some popular categories
+        String[] categories = {ApplicationConstants.DEFAULT_CATEGORY, "technology", "business", "health", "sports"};
+        List<RefreshPlanner.Job> jobs = Arrays.stream(categories)
+                .map(category -> refreshJob("refresh:" + category, RequestPriority.NORMAL,
+                        ApplicationConstants.DEFAULT_COUNTRY, ApplicationConstants.DEFAULT_LANGUAGE, category, null))
+                .toList();
+        refreshPlanner.submit("Automatic news refresh", jobs);
     }
     
     /**
@@ -86,15 +72,19 @@ public class NewsSchedulerService {
             // Count articles to be deleted
             long countBefore = articleRepository.count();
             
+            // Count what the delete removes per facet value, so listeners can adjust instead of recounting
+            List<FacetBreakdown> purgedFacets = articleRepository.countFacetsFetchedBefore(cutoffDate);
+            
             // Delete old articles
             int deletedCount = articleRepository.deleteByFetchedAtBefore(cutoffDate);
+            eventPublisher.publishEvent(new ArticlesPurgedEvent(cutoffDate, deletedCount, purgedFacets));
             
             long countAfter = articleRepository.count();
             
             log.info("Cleanup completed: deleted {} old articles (older than {} days). " +
                     "Articles before: {}, after: {}", 
                     deletedCount, retentionDays, countBefore, countAfter);
-            
+        
         } catch (Exception e) {
             log.error("Error during news cleanup", e);
         }
@@ -117,7 +107,7 @@ public class NewsSchedulerService {
             
             var stats = providerService.getProviderStatistics();
             log.info("Provider statistics: {}", stats);
-            
+        
         } catch (Exception e) {
             log.error("Error during provider health check", e);
         }
@@ -131,30 +121,16 @@ public class NewsSchedulerService {
     public void refreshTrendingNews() {
         log.info("Refreshing trending news topics");
         
-        try {
-            // Popular trending keywords
-            String[] trendingKeywords = {
-                "AI", "technology", "climate", "economy", "health", 
-                "politics", "innovation", "science", "energy", "finance"
-            };
-            
-            for (String keyword : trendingKeywords) {
-                try {
-                    newsService.refreshNews(null, "en", null, keyword);
-                    
-                    // Small delay to avoid rate limiting
-                    Thread.sleep(2000);
-                    
-                } catch (Exception e) {
-                    log.warn("Failed to refresh trending news for keyword {}: {}", keyword, e.getMessage());
-                }
-            }
-            
-            log.info("Trending news refresh completed");
-            
-        } catch (Exception e) {
-            log.error("Error during trending news refresh", e);
-        }
+        // Popular trending keywords
+        String[] trendingKeywords = {
+            "AI", "technology", "climate", "economy", "health", 
+            "politics", "innovation", "science", "energy", "finance"
+        };
+        
+        List<RefreshPlanner.Job> jobs = Arrays.stream(trendingKeywords)
+                .map(keyword -> refreshJob("trending:" + keyword, RequestPriority.LOW, null, "en", null, keyword))
+                .toList();
+        refreshPlanner.submit("Trending news refresh", jobs);
     }
     
     /**
@@ -165,29 +141,24 @@ public class NewsSchedulerService {
     public void warmupCache() {
         log.info("Starting cache warmup");
         
-        try {
-            // Popular country/language combinations
-            String[][] popularCombinations = {
-                {"us", "en"}, {"gb", "en"}, {"ca", "en"}, {"au", "en"},
-                {"de", "de"}, {"fr", "fr"}, {"it", "it"}, {"es", "es"}
-            };
-            
-            for (String[] combo : popularCombinations) {
-                try {
-                    // Preload first page of general news
-                    newsService.getNews(combo[0], combo[1], "general", null, 0, 20);
-                    
-                    Thread.sleep(500); // Small delay
-                    
-                } catch (Exception e) {
-                    log.warn("Failed to warm cache for {}/{}: {}", combo[0], combo[1], e.getMessage());
-                }
-            }
-            
-            log.info("Cache warmup completed");
-            
-        } catch (Exception e) {
-            log.error("Error during cache warmup", e);
-        }
+        // Popular country/language combinations
+        String[][] popularCombinations = {
+            {"us", "en"}, {"gb", "en"}, {"ca", "en"}, {"au", "en"},
+            {"de", "de"}, {"fr", "fr"}, {"it", "it"}, {"es", "es"}
+        };
+        
+        // Preload the first page of general news. The loads are blocking JDBC work, so each runs on its own
+        // virtual thread rather than the scheduler thread; on Java 25 waiting inside synchronized no longer pins it.
+        List<RefreshPlanner.Job> jobs = Arrays.stream(popularCombinations)
+                .map(combo -> new RefreshPlanner.Job("warmup:" + combo[0] + "/" + combo[1], RequestPriority.LOW,
+                        () -> Mono.fromRunnable(() -> newsService.getNews(combo[0], combo[1], "general", null, 0, 20))
+                                .subscribeOn(Schedulers.fromExecutor(virtualThreadExecutor))))
+                .toList();
+        refreshPlanner.submit("Cache warmup", jobs);
+    }
+    
+    private RefreshPlanner.Job refreshJob(String name, RequestPriority priority,
+                                          String country, String language, String category, String keyword) {
+        return new RefreshPlanner.Job(name, priority, () -> newsService.refreshNewsReactive(country, language, category, keyword));
     }
-}
\ No newline at end of file
+}
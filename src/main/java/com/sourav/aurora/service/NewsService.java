@@ -1,29 +1,55 @@
 package com.sourav.aurora.service;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sourav.aurora.cache.ListingCountCache;
+import com.sourav.aurora.cache.SingleFlight;
+import com.sourav.aurora.config.NewsProviderConfig;
+import com.sourav.aurora.constants.ApiConstants;
 import com.sourav.aurora.constants.ApplicationConstants;
 import com.sourav.aurora.dto.ArticleDto;
+import com.sourav.aurora.dto.ArticleView;
+import com.sourav.aurora.dto.CompactArticleDto;
+import com.sourav.aurora.dto.NewsCursor;
+import com.sourav.aurora.dto.NewsQuery;
 import com.sourav.aurora.dto.NewsResponse;
-import com.sourav.aurora.exception.NewsProviderException;
+import com.sourav.aurora.event.ArticlesSavedEvent;
+import com.sourav.aurora.index.ArticleUrlFilter;
+import com.sourav.aurora.index.FacetRegistry;
+import com.sourav.aurora.index.SearchIndex;
 import com.sourav.aurora.model.Article;
 import com.sourav.aurora.provider.NewsProvider;
+import com.sourav.aurora.provider.ProviderHighWaterMarks;
 import com.sourav.aurora.repository.ArticleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -37,41 +63,205 @@ public class NewsService {
     private final ArticleRepository articleRepository;
     private final NewsProviderService providerService;
     private final SummarizerService summarizerService;
+    private final NewsProviderConfig config;
+    private final ArticleUrlFilter urlFilter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Scheduler ingestScheduler;
+    private final CacheManager cacheManager;
+    private final FacetRegistry facetRegistry;
+    private final SearchIndex searchIndex;
+    private final ListingCountCache listingCounts;
+    private final Executor virtualThreadExecutor;
+    private final ProviderRequestHedger requestHedger;
+    private final SingleFlight<NewsQuery, NewsResponse> newsLoads;
     
-    @Cacheable(value = ApplicationConstants.CACHE_NEWS, 
-               key = "#country + '_' + #language + '_' + #category + '_' + #keyword + '_' + #page + '_' + #size")
+    @Cacheable(value = ApplicationConstants.CACHE_NEWS, keyGenerator = "newsQueryKeyGenerator", unless = "#root.target.isStale(#result)")
     public NewsResponse getNews(String country, String language, String category, String keyword, int page, int size) {
-        log.info("Fetching news with filters - country: {}, language: {}, category: {}, keyword: {}, page: {}, size: {}", 
-                country, language, category, keyword, page, size);
+        return getNews(country, language, category, keyword, page, size, ArticleView.FULL);
+    }
+    
+    /**
+     * Concurrent misses of the same page share one load instead of each querying the database.
+     * A previous page served because that load failed or took too long is returned without being cached.
+     */
+    @Cacheable(value = ApplicationConstants.CACHE_NEWS, keyGenerator = "newsQueryKeyGenerator", unless = "#root.target.isStale(#result)")
+    public NewsResponse getNews(String country, String language, String category, String keyword, int page, int size, ArticleView view) {
+        return newsLoads.load(new NewsQuery(country, language, category, keyword, page, size, view), 
+                () -> loadNews(country, language, category, keyword, page, size, view));
+    }
+    
+    /**
+     * Whether the response is an earlier page served in place of a failed or slow load rather than current data
+     */
+    public boolean isStale(NewsResponse response) {
+        return newsLoads.isStale(response);
+    }
+    
+    private NewsResponse loadNews(String country, String language, String category, String keyword, int page, int size, ArticleView view) {
+        log.info("Fetching news with filters - country: {}, language: {}, category: {}, keyword: {}, page: {}, size: {}, view: {}", 
+                country, language, category, keyword, page, size, view);
         
         // Validate and sanitize parameters
         page = Math.max(0, page);
-        size = Math.min(Math.max(1, size), ApplicationConstants.MAX_SIZE);
+        size = Math.min(Math.max(1, size), ApiConstants.MAX_SIZE);
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "publishedAt", "fetchedAt"));
-        Page<Article> articlesPage = articleRepository.findArticlesWithFilters(country, language, category, keyword, pageable);
+        Pageable pageable = PageRequest.of(page, size);
         
-        List<ArticleDto> articleDtos = articlesPage.getContent().stream()
-                .map(ArticleDto::fromEntity)
-                .collect(Collectors.toList());
+        Page<?> articlesPage;
+        if (keyword != null && searchIndex.canSearch(keyword)) {
+            // Ranked full-text search with the remaining filters intersected in the index
+            SearchIndex.SearchResult result = searchIndex.search(keyword, country, language, category, page, size);
+            articlesPage = new PageImpl<>(findAllInOrder(view, result.articleIds()), pageable, result.totalMatches());
+        } else {
+            // The count scans every matching row; run it alongside the page query rather than after it
+            CompletableFuture<Long> totalFuture = CompletableFuture.supplyAsync(
+                    () -> articleRepository.countArticlesWithFilters(country, language, category, keyword), virtualThreadExecutor);
+            List<?> content = findRange(view, country, language, category, keyword, pageable.getOffset(), size);
+            articlesPage = new PageImpl<>(content, pageable, totalFuture.join());
+        }
         
-        log.info(ApplicationConstants.INFO_CACHE_HIT + " - {} articles returned", articleDtos.size());
+        log.info(ApplicationConstants.INFO_CACHE_HIT + " - {} articles returned", articlesPage.getNumberOfElements());
         
         return NewsResponse.builder()
-                .articles(articleDtos)
+                .articles(articlesPage.getContent())
                 .totalPages(articlesPage.getTotalPages())
                 .totalElements(articlesPage.getTotalElements())
                 .currentPage(page)
                 .pageSize(size)
                 .hasNext(articlesPage.hasNext())
                 .hasPrevious(articlesPage.hasPrevious())
-                .availableCountries(articleRepository.findDistinctCountries())
-                .availableLanguages(articleRepository.findDistinctLanguages())
-                .availableCategories(articleRepository.findDistinctCategories())
-                .availableSources(articleRepository.findDistinctSources())
+                .availableCountries(facetRegistry.countries())
+                .availableLanguages(facetRegistry.languages())
+                .availableCategories(facetRegistry.categories())
+                .availableSources(facetRegistry.sources())
                 .build();
     }
     
+    /**
+     * Offset pagination without a count query: one row past the page is read to derive {@code hasNext}.
+     * Totals come from the search index when it serves the keyword, otherwise from {@link ListingCountCache},
+     * and are left out while the count for this filter is still being computed in the background.
+     */
+    public NewsResponse getNewsWithoutCount(String country, String language, String category, String keyword, int page, int size, 
+                                            ArticleView view) {
+        log.info("Fetching news without count - country: {}, language: {}, category: {}, keyword: {}, page: {}, size: {}, view: {}", 
+                country, language, category, keyword, page, size, view);
+        
+        page = Math.max(0, page);
+        size = Math.min(Math.max(1, size), ApiConstants.MAX_SIZE);
+        
+        List<?> pageContent;
+        boolean hasNext;
+        Long total;
+        if (keyword != null && searchIndex.canSearch(keyword)) {
+            // The index counts its matches while ranking them, so its total is exact and free
+            SearchIndex.SearchResult result = searchIndex.search(keyword, country, language, category, page, size);
+            pageContent = findAllInOrder(view, result.articleIds());
+            total = result.totalMatches();
+            hasNext = (long) (page + 1) * size < total;
+        } else {
+            List<?> content = findRange(view, country, language, category, keyword, (long) page * size, size + 1);
+            hasNext = content.size() > size;
+            pageContent = hasNext ? content.subList(0, size) : content;
+            total = listingCounts.getIfReady(country, language, category, keyword);
+        }
+        
+        return NewsResponse.builder()
+                .articles(pageContent)
+                .totalPages(total != null ? (int) ((total + size - 1) / size) : null)
+                .totalElements(total)
+                .currentPage(page)
+                .pageSize(size)
+                .hasNext(hasNext)
+                .hasPrevious(page > 0)
+                .availableCountries(facetRegistry.countries())
+                .availableLanguages(facetRegistry.languages())
+                .availableCategories(facetRegistry.categories())
+                .availableSources(facetRegistry.sources())
+                .build();
+    }
+    
+    /**
+     * Keyset pagination: the page of articles after the cursor (or the first page when it is empty),
+     * in (publishedAt, fetchedAt, id) descending order. No totals are computed; {@code nextCursor}
+     * continues the listing. Rows inserted at the head while a client pages never shift later pages.
+     */
+    public NewsResponse getNewsAfter(String country, String language, String category, String keyword, String cursor, int size, 
+                                     ArticleView view) {
+        log.info("Fetching news after cursor - country: {}, language: {}, category: {}, keyword: {}, cursor: {}, size: {}, view: {}", 
+                country, language, category, keyword, cursor, size, view);
+        
+        size = Math.min(Math.max(1, size), ApiConstants.MAX_SIZE);
+        NewsCursor after = cursor == null || cursor.isBlank() ? null : NewsCursor.decode(cursor);
+        
+        // Read one row past the page to learn whether another page follows
+        List<?> content;
+        if (keyword != null && searchIndex.canSearch(keyword)) {
+            content = findAllInOrder(view, searchIndex.searchAfter(keyword, country, language, category, after, size + 1));
+        } else if (after == null) {
+            content = findRange(view, country, language, category, keyword, 0, size + 1);
+        } else if (view == ArticleView.COMPACT) {
+            content = articleRepository.findCompactAfter(country, language, category, keyword, 
+                    after.publishedAt(), after.fetchedAt(), after.id(), Limit.of(size + 1));
+        } else {
+            content = toDtos(articleRepository.findArticlesAfter(country, language, category, keyword, 
+                    after.publishedAt(), after.fetchedAt(), after.id(), Limit.of(size + 1)));
+        }
+        
+        boolean hasNext = content.size() > size;
+        List<?> pageContent = hasNext ? content.subList(0, size) : content;
+        
+        return NewsResponse.builder()
+                .articles(pageContent)
+                .pageSize(size)
+                .hasNext(hasNext)
+                .hasPrevious(after != null)
+                .nextCursor(hasNext ? cursorAfter(pageContent.get(pageContent.size() - 1)).encode() : null)
+                .availableCountries(facetRegistry.countries())
+                .availableLanguages(facetRegistry.languages())
+                .availableCategories(facetRegistry.categories())
+                .availableSources(facetRegistry.sources())
+                .build();
+    }
+    
+    /**
+     * Rows {@code [offset, offset + limit)} of the filtered listing as DTOs of the requested view.
+     * The compact view is read straight from the card columns, never as managed entities.
+     */
+    private List<?> findRange(ArticleView view, String country, String language, String category, String keyword, 
+                              long offset, int limit) {
+        if (view == ArticleView.COMPACT) {
+            return articleRepository.findCompactRangeWithFilters(country, language, category, keyword, offset, limit);
+        }
+        return toDtos(articleRepository.findArticleRangeWithFilters(country, language, category, keyword, offset, limit));
+    }
+    
+    private List<?> findAllInOrder(ArticleView view, List<Long> ids) {
+        Map<Long, ?> byId = view == ArticleView.COMPACT
+                ? articleRepository.findCompactByIds(ids).stream()
+                        .collect(Collectors.toMap(CompactArticleDto::id, Function.identity()))
+                : articleRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(Article::getId, ArticleDto::fromEntity));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+    
+    private static List<ArticleDto> toDtos(List<Article> articles) {
+        return articles.stream()
+                .map(ArticleDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+    
+    private static NewsCursor cursorAfter(Object row) {
+        return switch (row) {
+            case CompactArticleDto card -> new NewsCursor(card.publishedAt(), card.fetchedAt(), card.id());
+            case ArticleDto article -> new NewsCursor(article.getPublishedAt(), article.getFetchedAt(), article.getId());
+            default -> throw new IllegalStateException("Unexpected listing row " + row.getClass().getName());
+        };
+    }
+    
     public List<ArticleDto> getTodaysNews() {
         LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
         List<Article> articles = articleRepository.findTodaysArticles(startOfDay);
@@ -83,11 +273,18 @@ public class NewsService {
                 .collect(Collectors.toList());
     }
     
-    @CacheEvict(value = ApplicationConstants.CACHE_NEWS, allEntries = true)
-    @Transactional
-    @Async("newsProviderExecutor")
+    /**
+     * Refresh news from all enabled providers. Providers and their pages are fetched concurrently without holding
+     * a thread for the network round trip; each page is saved on the ingest scheduler as it arrives. With hedging enabled the
+     * providers are asked in turn instead, see {@link ProviderRequestHedger}.
+     * Cached pages affected by the saved articles are evicted by {@link com.sourav.aurora.cache.NewsCacheInvalidator}.
+     */
     public CompletableFuture<Void> refreshNews(String country, String language, String category, String keyword) {
-        return CompletableFuture.runAsync(() -> {
+        return refreshNewsReactive(country, language, category, keyword).toFuture();
+    }
+    
+    public Mono<Void> refreshNewsReactive(String country, String language, String category, String keyword) {
+        return Mono.defer(() -> {
             log.info("Refreshing news from all providers with filters - country: {}, language: {}, category: {}, keyword: {}", 
                     country, language, category, keyword);
             
@@ -95,107 +292,137 @@ public class NewsService {
             
             if (enabledProviders.isEmpty()) {
                 log.warn(ApplicationConstants.WARN_NO_ARTICLES_FOUND + " - No enabled providers");
-                return;
+                return Mono.empty();
             }
             
-            List<CompletableFuture<List<Article>>> futures = new ArrayList<>();
-            
-            for (NewsProvider provider : enabledProviders) {
-                log.info("Fetching from provider: {} (priority: {})", provider.getProviderName(), provider.getPriority());
-                CompletableFuture<List<Article>> future = provider.fetchNews(country, language, category, keyword)
-                        .exceptionally(throwable -> {
-                            if (throwable instanceof NewsProviderException) {
-                                log.error("Provider {} failed: {}", provider.getProviderName(), throwable.getMessage());
-                            } else {
-                                log.error("Unexpected error from provider {}: {}", provider.getProviderName(), throwable.getMessage());
-                            }
-                            return new ArrayList<>();
-                        });
-                futures.add(future);
+            // High-water marks of the providers advance only once the articles read have been saved
+            ProviderHighWaterMarks.PendingMarks pending = new ProviderHighWaterMarks.PendingMarks();
+            if (requestHedger.isEnabled() && enabledProviders.size() > 1) {
+                return requestHedger.hedge(enabledProviders, country, language, category, keyword, 
+                                articles -> saveArticles(articles, country, language, category))
+                        .doOnError(e -> log.error(ApplicationConstants.ERROR_NEWS_REFRESH_FAILED, e))
+                        .contextWrite(pending.context());
             }
             
-            // Wait for all providers to complete with timeout
-            CompletableFuture<Void> allFutures = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
-            
-            try {
-                allFutures.join(); // Wait for completion
-                
-                List<Article> allArticles = new ArrayList<>();
-                int successfulProviders = 0;
-                
-                for (int i = 0; i < futures.size(); i++) {
-                    try {
-                        List<Article> articles = futures.get(i).get();
-                        if (!articles.isEmpty()) {
-                            allArticles.addAll(articles);
-                            successfulProviders++;
+            // Each page is saved as soon as it arrives, while the next pages are still being fetched
+            int window = config.getPaging().getWindow();
+            AtomicInteger pages = new AtomicInteger();
+            AtomicInteger fetched = new AtomicInteger();
+            return Flux.fromIterable(enabledProviders)
+                    .flatMap(provider -> requestHedger.fetchPages(provider, country, language, category, keyword, window))
+                    .filter(articles -> !articles.isEmpty())
+                    .publishOn(ingestScheduler)
+                    .doOnNext(articles -> {
+                        pages.incrementAndGet();
+                        fetched.addAndGet(articles.size());
+                        saveArticles(articles, country, language, category);
+                    })
+                    .doOnComplete(() -> {
+                        pending.commit();
+                        if (fetched.get() == 0) {
+                            log.warn(ApplicationConstants.WARN_NO_ARTICLES_FOUND);
+                        } else {
+                            log.info("Fetched {} articles in {} pages from {} providers", 
+                                    fetched.get(), pages.get(), enabledProviders.size());
                         }
-                    } catch (Exception e) {
-                        log.error("Error getting articles from provider {}: {}", 
-                                enabledProviders.get(i).getProviderName(), e.getMessage());
-                    }
-                }
-                
-                log.info("Fetched {} articles from {} successful providers out of {} total", 
-                        allArticles.size(), successfulProviders, enabledProviders.size());
-                
-                if (!allArticles.isEmpty()) {
-                    // Process and save articles
-                    saveArticles(allArticles, country, language, category);
-                } else {
-                    log.warn(ApplicationConstants.WARN_NO_ARTICLES_FOUND);
-                }
-                
-            } catch (Exception e) {
-                log.error(ApplicationConstants.ERROR_NEWS_REFRESH_FAILED, e);
-                throw new RuntimeException(ApplicationConstants.ERROR_NEWS_REFRESH_FAILED, e);
-            }
+                    })
+                    .doOnError(e -> log.error(ApplicationConstants.ERROR_NEWS_REFRESH_FAILED, e))
+                    .then()
+                    .contextWrite(pending.context());
         });
     }
     
-    @Transactional
-    private void saveArticles(List<Article> articles, String country, String language, String category) {
-        int savedCount = 0;
+    /**
+     * Persist new articles in bulk: one set-based URL lookup per chunk, then batched inserts
+     * with a transaction per batch. Returns the articles that were actually saved.
+     */
+    List<Article> saveArticles(List<Article> articles, String country, String language, String category) {
         int duplicateCount = 0;
         int errorCount = 0;
+        int batchSize = Math.max(1, config.getIngest().getBatchSize());
         
+        // Validate and collapse in-payload duplicates (the same story often comes from several providers)
+        Map<String, Article> candidates = new LinkedHashMap<>();
         for (Article article : articles) {
+            if (!isValidArticle(article)) {
+                errorCount++;
+                continue;
+            }
+            if (candidates.putIfAbsent(article.getUrl(), article) != null) {
+                duplicateCount++;
+            }
+        }
+        
+        // Only URLs the filter cannot rule out need to be confirmed against the table
+        List<String> possiblyKnownUrls = candidates.keySet().stream()
+                .filter(urlFilter::mightContain)
+                .collect(Collectors.toList());
+        Set<String> existingUrls = new HashSet<>();
+        for (List<String> urls : partition(possiblyKnownUrls, batchSize)) {
+            existingUrls.addAll(articleRepository.findExistingUrls(urls));
+        }
+        urlFilter.recordConfirmations(possiblyKnownUrls.size(), existingUrls.size());
+        
+        List<Article> newArticles = new ArrayList<>(candidates.size());
+        for (Article article : candidates.values()) {
+            if (existingUrls.contains(article.getUrl())) {
+                duplicateCount++;
+                continue;
+            }
+            
+            // Set filter values if not already set
+            enrichArticle(article, country, language, category);
+            
+            // Generate summary
+            if (article.getDescription() != null && !article.getDescription().isEmpty()) {
+                String summary = summarizerService.generateSummary(article.getDescription());
+                article.setSummary(summary);
+            }
+            
+            newArticles.add(article);
+        }
+        
+        List<Article> savedArticles = new ArrayList<>(newArticles.size());
+        for (List<Article> batch : partition(newArticles, batchSize)) {
             try {
-                // Validate article
-                if (!isValidArticle(article)) {
-                    errorCount++;
-                    continue;
-                }
-                
-                // Check if article already exists
-                if (articleRepository.findByUrl(article.getUrl()).isPresent()) {
-                    duplicateCount++;
-                    continue;
-                }
-                
-                // Set filter values if not already set
-                enrichArticle(article, country, language, category);
-                
-                // Generate summary
-                if (article.getDescription() != null && !article.getDescription().isEmpty()) {
-                    String summary = summarizerService.generateSummary(article.getDescription());
-                    article.setSummary(summary);
-                }
-                
-                articleRepository.save(article);
-                savedCount++;
-                
+                articleRepository.insertBatch(batch);
+                savedArticles.addAll(batch);
             } catch (Exception e) {
-                log.error("Error saving article: {}", article.getUrl(), e);
-                errorCount++;
+                // A concurrent refresh may have inserted one of these URLs; retry row by row so the rest still land
+                log.warn("Batch insert of {} articles failed, retrying individually: {}", batch.size(), e.getMessage());
+                for (Article article : batch) {
+                    article.setId(null);
+                    try {
+                        articleRepository.insertBatch(List.of(article));
+                        savedArticles.add(article);
+                    } catch (DataIntegrityViolationException ex) {
+                        duplicateCount++;
+                    } catch (Exception ex) {
+                        log.error("Error saving article: {}", article.getUrl(), ex);
+                        errorCount++;
+                    }
+                }
             }
         }
         
         log.info("Article processing completed - Saved: {}, Duplicates: {}, Errors: {}", 
-                savedCount, duplicateCount, errorCount);
+                savedArticles.size(), duplicateCount, errorCount);
+        
+        if (!savedArticles.isEmpty()) {
+            eventPublisher.publishEvent(new ArticlesSavedEvent(savedArticles));
+        }
+        return savedArticles;
     }
     
-    private boolean isValidArticle(Article article) {
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> chunks = new ArrayList<>((items.size() + size - 1) / size);
+        for (int i = 0; i < items.size(); i += size) {
+            chunks.add(items.subList(i, Math.min(i + size, items.size())));
+        }
+        return chunks;
+    }
+    
+    boolean isValidArticle(Article article) {
         return article != null &&
                article.getTitle() != null && !article.getTitle().trim().isEmpty() &&
                article.getUrl() != null && !article.getUrl().trim().isEmpty() &&
@@ -204,7 +431,7 @@ public class NewsService {
                (article.getDescription() == null || article.getDescription().length() <= ApplicationConstants.MAX_DESCRIPTION_LENGTH);
     }
     
-    private void enrichArticle(Article article, String country, String language, String category) {
+    void enrichArticle(Article article, String country, String language, String category) {
         if (article.getCountry() == null && country != null) {
             article.setCountry(country);
         }
@@ -237,7 +464,7 @@ public class NewsService {
         return providerService.getAllProviders().stream()
                 .map(provider -> {
                     String status = provider.isEnabled() ? 
-                            (provider.isHealthy() ? "enabled" : "enabled (unhealthy)") : 
+                            (provider.isHealthy() ? "enabled" : "enabled (circuit open)") : 
                             "disabled";
                     return provider.getProviderName() + " (" + status + ")";
                 })
@@ -248,13 +475,65 @@ public class NewsService {
         return providerService.getProviderHealthStatus();
     }
     
+    public Map<String, Object> getProviderQuotaStatus() {
+        return providerService.getProviderQuotaStatus();
+    }
+    
     public NewsResponse searchNews(String query, int page, int size) {
+        return getNews(null, null, null, validSearchQuery(query), page, size);
+    }
+    
+    public NewsResponse searchNews(String query, int page, int size, ArticleView view) {
+        return getNews(null, null, null, validSearchQuery(query), page, size, view);
+    }
+    
+    public NewsResponse searchNewsWithoutCount(String query, int page, int size, ArticleView view) {
+        return getNewsWithoutCount(null, null, null, validSearchQuery(query), page, size, view);
+    }
+    
+    public NewsResponse searchNewsAfter(String query, String cursor, int size, ArticleView view) {
+        return getNewsAfter(null, null, null, validSearchQuery(query), cursor, size, view);
+    }
+    
+    private static String validSearchQuery(String query) {
         if (query == null || query.trim().length() < ApplicationConstants.MIN_KEYWORD_LENGTH) {
             throw new IllegalArgumentException("Search query must be at least " + 
                     ApplicationConstants.MIN_KEYWORD_LENGTH + " characters long");
         }
+        return query.trim();
+    }
+    
+    /**
+     * Hit, miss, eviction and load-time statistics of the news cache
+     */
+    public Map<String, Object> getCacheStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("cache", ApplicationConstants.CACHE_NEWS);
+        
+        if (cacheManager.getCache(ApplicationConstants.CACHE_NEWS) instanceof CaffeineCache caffeineCache) {
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> cache = caffeineCache.getNativeCache();
+            CacheStats stats = cache.stats();
+            statistics.put("entries", cache.estimatedSize());
+            cache.policy().eviction().ifPresent(eviction -> {
+                eviction.weightedSize().ifPresent(weight -> statistics.put("weightBytes", weight));
+                statistics.put("maxWeightBytes", eviction.getMaximum());
+            });
+            statistics.put("hitCount", stats.hitCount());
+            statistics.put("missCount", stats.missCount());
+            statistics.put("hitRate", stats.hitRate());
+            statistics.put("evictionCount", stats.evictionCount());
+            statistics.put("evictionWeightBytes", stats.evictionWeight());
+        }
+        
+        // Misses are loaded through the single-flight loader rather than by the cache
+        CacheStats loads = newsLoads.stats();
+        statistics.put("loadSuccessCount", loads.loadSuccessCount());
+        statistics.put("loadFailureCount", loads.loadFailureCount());
+        statistics.put("averageLoadPenaltyMs", loads.averageLoadPenalty() / 1_000_000.0);
+        statistics.put("totalLoadTimeMs", loads.totalLoadTime() / 1_000_000);
         
-        return getNews(null, null, null, query.trim(), page, size);
+        statistics.put("timestamp", LocalDateTime.now());
+        return statistics;
     }
     
     @CacheEvict(value = ApplicationConstants.CACHE_NEWS, allEntries = true)
@@ -0,0 +1,219 @@
+package com.sourav.aurora.service;
+
+import com.sourav.aurora.config.NewsProviderConfig;
+import com.sourav.aurora.exception.NewsProviderException;
+import com.sourav.aurora.model.Article;
+import com.sourav.aurora.provider.NewsProvider;
+import com.sourav.aurora.provider.ProviderHighWaterMarks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Provider calls of a refresh. Every call is timed per provider; in hedging mode the providers are asked one
+ * after another in priority order, the next one as soon as the current one is slower than its observed p95
+ * latency or returned too few articles. The refresh completes once {@code minArticles} have arrived, so it is
+ * no longer as slow as the slowest provider; calls still outstanding then are cancelled or, with
+ * {@code ingestLateResults}, finish in the background and only add what the deduplication lets through.
+ */
+@Service
+@Slf4j
+public class ProviderRequestHedger {
+    
+    private static final double HEDGE_PERCENTILE = 0.95;
+    
+    private final NewsProviderConfig.Hedging settings;
+    private final int pagingWindow;
+    private final MeterRegistry meterRegistry;
+    private final Scheduler ingestScheduler;
+    private final Counter hedges;
+    private final Counter wins;
+    private final Counter wasted;
+    
+    public ProviderRequestHedger(NewsProviderConfig config, MeterRegistry meterRegistry, Scheduler ingestScheduler) {
+        this.settings = config.getHedging();
+        this.pagingWindow = config.getPaging().getWindow();
+        this.meterRegistry = meterRegistry;
+        this.ingestScheduler = ingestScheduler;
+        this.hedges = Counter.builder("aurora.hedge.sent")
+                .description("Provider requests sent because the previous provider was slower than its p95 latency")
+                .register(meterRegistry);
+        this.wins = Counter.builder("aurora.hedge.wins")
+                .description("Hedged refreshes whose first articles came from a hedged request")
+                .register(meterRegistry);
+        this.wasted = Counter.builder("aurora.hedge.wasted")
+                .description("Provider requests whose articles were not needed: cancelled or arriving after enough")
+                .register(meterRegistry);
+    }
+    
+    public boolean isEnabled() {
+        return settings.isEnabled();
+    }
+    
+    /**
+     * All pages of one provider, each emitted as soon as it has been read. The call is timed to its first page,
+     * which is when the provider has answered; a failure of the first page is logged and yields nothing, so that
+     * the other providers still count. Later pages already stop paging quietly.
+     */
+    public Flux<List<Article>> fetchPages(NewsProvider provider, String country, String language, String category, String keyword,
+                                          int window) {
+        return Flux.defer(() -> {
+            log.info("Fetching pages from provider: {} (priority: {})", provider.getProviderName(), provider.getPriority());
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicBoolean first = new AtomicBoolean(true);
+            return provider.streamPages(country, language, category, keyword, window)
+                    .doOnNext(page -> {
+                        // Shed and empty answers return at once and would drag the p95 down
+                        if (first.getAndSet(false) && !page.isEmpty()) {
+                            sample.stop(latency(provider));
+                        }
+                    })
+                    .onErrorResume(throwable -> {
+                        if (throwable instanceof NewsProviderException) {
+                            log.error("Provider {} failed: {}", provider.getProviderName(), throwable.getMessage());
+                        } else {
+                            log.error("Unexpected error from provider {}: {}", provider.getProviderName(), throwable.getMessage());
+                        }
+                        return Flux.empty();
+                    });
+        });
+    }
+    
+    /**
+     * Ask the providers, given in priority order, until {@code minArticles} have been passed to {@code ingest}.
+     * Each page of an answer is ingested as it arrives, on the ingest scheduler.
+     */
+    public Mono<Void> hedge(List<NewsProvider> providers, String country, String language, String category, String keyword,
+                            Consumer<List<Article>> ingest) {
+        return Mono.deferContextual(context -> {
+            int minArticles = Math.max(1, settings.getMinArticles());
+            AtomicInteger received = new AtomicInteger();
+            Sinks.Empty<Void> enough = Sinks.empty();
+            
+            Flux<Attempt> answers = attempt(providers, 0, country, language, category, keyword)
+                    .filter(answer -> !answer.articles().isEmpty())
+                    .publishOn(ingestScheduler)
+                    .doOnNext(answer -> {
+                        int before = received.getAndAdd(answer.articles().size());
+                        if (before >= minArticles) {
+                            wasted.increment();
+                        } else if (before == 0 && answer.index() > 0) {
+                            wins.increment();
+                        }
+                        ingest.accept(answer.articles());
+                        if (received.get() >= minArticles) {
+                            enough.tryEmitEmpty();
+                        }
+                    });
+            
+            // Marks of the providers read advance once their pages are stored, see ProviderHighWaterMarks.PendingMarks
+            Optional<ProviderHighWaterMarks.PendingMarks> pending = ProviderHighWaterMarks.PendingMarks.from(context);
+            if (!settings.isIngestLateResults()) {
+                // A page still queued when enough articles arrived is dropped; the mark of its provider must stay
+                AtomicBoolean dropped = new AtomicBoolean();
+                return answers.takeUntil(answer -> received.get() >= minArticles)
+                        .doOnDiscard(Attempt.class, answer -> {
+                            if (!answer.articles().isEmpty()) {
+                                dropped.set(true);
+                            }
+                        })
+                        .doOnComplete(() -> {
+                            if (!dropped.get()) {
+                                pending.ifPresent(ProviderHighWaterMarks.PendingMarks::commit);
+                            }
+                        })
+                        .then();
+            }
+            answers.doOnComplete(() -> pending.ifPresent(ProviderHighWaterMarks.PendingMarks::commit))
+                    .doFinally(signal -> enough.tryEmitEmpty())
+                    .contextWrite(context)
+                    .subscribe(null, e -> log.error("Hedged refresh failed", e));
+            return enough.asMono();
+        });
+    }
+    
+    /**
+     * The pages of {@code providers[index]}, merged with those of the providers after it. The next provider is
+     * asked once this one has not answered its first page within its hedge delay, or answered it with fewer than
+     * enough articles.
+     */
+    private Flux<Attempt> attempt(List<NewsProvider> providers, int index,
+                                  String country, String language, String category, String keyword) {
+        NewsProvider provider = providers.get(index);
+        // Subscribed once, so that cancelling the refresh cancels the request; the hedge timer watches the sink
+        Sinks.One<Boolean> tooFew = Sinks.one();
+        AtomicBoolean answered = new AtomicBoolean();
+        Flux<Attempt> answer = fetchPages(provider, country, language, category, keyword, pagingWindow)
+                .doOnNext(page -> {
+                    if (answered.compareAndSet(false, true)) {
+                        tooFew.tryEmitValue(page.size() < settings.getMinArticles());
+                    }
+                })
+                .doOnComplete(() -> tooFew.tryEmitValue(true))
+                .map(page -> new Attempt(index, page))
+                .doOnCancel(() -> {
+                    if (!answered.get()) {
+                        wasted.increment();
+                    }
+                });
+        if (index + 1 == providers.size()) {
+            return answer;
+        }
+        
+        Duration delay = hedgeDelay(provider);
+        NewsProvider next = providers.get(index + 1);
+        Mono<Boolean> askNext = Mono.firstWithSignal(
+                tooFew.asMono(),
+                Mono.delay(delay).map(tick -> {
+                    log.info("{} has not answered its first page within {} ms, also asking {}",
+                            provider.getProviderName(), delay.toMillis(), next.getProviderName());
+                    hedges.increment();
+                    return true;
+                }));
+        return Flux.merge(answer, askNext
+                .filter(Boolean::booleanValue)
+                .flatMapMany(ask -> attempt(providers, index + 1, country, language, category, keyword)));
+    }
+    
+    /**
+     * The provider's p95 latency, or {@code initialDelay} until enough of its calls have been observed
+     */
+    private Duration hedgeDelay(NewsProvider provider) {
+        Timer timer = latency(provider);
+        if (timer.count() >= settings.getMinSamples()) {
+            for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+                if (percentile.percentile() == HEDGE_PERCENTILE && percentile.value() > 0) {
+                    return Duration.ofNanos((long) percentile.value(TimeUnit.NANOSECONDS));
+                }
+            }
+        }
+        return Duration.ofMillis(settings.getInitialDelay());
+    }
+    
+    private Timer latency(NewsProvider provider) {
+        return Timer.builder("aurora.provider.latency")
+                .tag("provider", provider.getProviderName())
+                .publishPercentiles(HEDGE_PERCENTILE)
+                .distributionStatisticExpiry(Duration.ofHours(1))
+                .description("Duration of provider calls that returned articles")
+                .register(meterRegistry);
+    }
+    
+    private record Attempt(int index, List<Article> articles) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.sourav.aurora.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class SingleFlightTests {
+
+	private SimpleMeterRegistry meterRegistry;
+	private SingleFlight<String, String> loads;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		loads = new SingleFlight<>("test", Duration.ofMillis(200), Caffeine.newBuilder().build(), meterRegistry);
+	}
+
+	@Test
+	void concurrentLoadsOfTheSameKeyRunTheLoaderOnce() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> loads.load("page", () -> {
+			calls.incrementAndGet();
+			started.countDown();
+			await(release);
+			return "fresh";
+		}));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> loads.load("page", () -> {
+			calls.incrementAndGet();
+			return "duplicate";
+		}));
+		// Give the second caller time to join the running load before it completes
+		Thread.sleep(50);
+		release.countDown();
+
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("fresh");
+		assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("fresh");
+		assertThat(calls).hasValue(1);
+		assertThat(meterRegistry.get("aurora.singleflight.coalesced").counter().count()).isEqualTo(1);
+		assertThat(loads.stats().loadSuccessCount()).isEqualTo(1);
+	}
+
+	@Test
+	void failedLoadServesThePreviousValueMarkedStale() {
+		// Distinct instances: staleness is tracked per value object
+		String fresh = loads.load("page", () -> new String("fresh"));
+
+		String served = loads.load("page", () -> {
+			throw new IllegalStateException("database down");
+		});
+
+		assertThat(served).isSameAs(fresh);
+		assertThat(loads.isStale(served)).isTrue();
+		assertThat(loads.isStale(loads.load("page", () -> new String("fresh")))).isFalse();
+		assertThat(loads.stats().loadFailureCount()).isEqualTo(1);
+		assertThat(loads.stats().loadSuccessCount()).isEqualTo(2);
+	}
+
+	@Test
+	void failedLoadWithoutPreviousValueIsRethrown() {
+		assertThatIllegalStateException().isThrownBy(() -> loads.load("page", () -> {
+			throw new IllegalStateException("database down");
+		}));
+	}
+
+	@Test
+	void callerWaitingTooLongIsServedThePreviousValue() throws Exception {
+		String previous = loads.load("page", () -> "previous");
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> loads.load("page", () -> {
+			started.countDown();
+			await(release);
+			return "slow";
+		}));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		String served = loads.load("page", () -> "unused");
+		release.countDown();
+
+		assertThat(served).isSameAs(previous);
+		assertThat(loads.isStale(served)).isTrue();
+		assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+	}
+
+	@Test
+	void invalidatedPreviousValuesAreNoLongerServed() {
+		loads.load("page", () -> "fresh");
+
+		loads.invalidatePrevious((key, value) -> key.equals("page"));
+
+		assertThatIllegalStateException().isThrownBy(() -> loads.load("page", () -> {
+			throw new IllegalStateException("database down");
+		}));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,26 @@
+package com.sourav.aurora.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsControllerTests {
+
+	@Test
+	void gzipIsAcceptedWhenListedOrCoveredByWildcard() {
+		assertThat(NewsController.acceptsGzip("gzip, deflate, br")).isTrue();
+		assertThat(NewsController.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+		assertThat(NewsController.acceptsGzip("*")).isTrue();
+		assertThat(NewsController.acceptsGzip("identity, *;q=0.1")).isTrue();
+	}
+
+	@Test
+	void gzipIsRefusedWhenAbsentOrGivenZeroQuality() {
+		assertThat(NewsController.acceptsGzip(null)).isFalse();
+		assertThat(NewsController.acceptsGzip("identity")).isFalse();
+		assertThat(NewsController.acceptsGzip("gzip;q=0")).isFalse();
+		assertThat(NewsController.acceptsGzip("gzip; q=0.000, *")).isFalse();
+		assertThat(NewsController.acceptsGzip("br, *;q=0")).isFalse();
+	}
+
+}
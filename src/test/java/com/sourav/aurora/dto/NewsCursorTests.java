@@ -0,0 +1,52 @@
+package com.sourav.aurora.dto;
+
+import com.sourav.aurora.model.Article;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class NewsCursorTests {
+
+	@Test
+	void decodeReturnsTheEncodedPosition() {
+		NewsCursor cursor = new NewsCursor(LocalDateTime.of(2025, 3, 1, 10, 15, 30, 123456000),
+				LocalDateTime.of(2025, 3, 1, 11, 0), 42);
+
+		String token = cursor.encode();
+
+		assertThat(token).doesNotContain("=", "+", "/");
+		assertThat(NewsCursor.decode(token)).isEqualTo(cursor);
+	}
+
+	@Test
+	void cursorAfterAnArticleIsItsListingPosition() {
+		LocalDateTime publishedAt = LocalDateTime.of(2025, 3, 1, 10, 0);
+		LocalDateTime fetchedAt = LocalDateTime.of(2025, 3, 1, 11, 0);
+		Article article = Article.builder().id(7L).publishedAt(publishedAt).fetchedAt(fetchedAt).build();
+
+		NewsCursor cursor = NewsCursor.after(article);
+
+		assertThat(cursor).isEqualTo(new NewsCursor(publishedAt, fetchedAt, 7L));
+		assertThat(NewsCursor.decode(cursor.encode())).isEqualTo(cursor);
+	}
+
+	@Test
+	void malformedTokensAreRejected() {
+		assertThatIllegalArgumentException().isThrownBy(() -> NewsCursor.decode("not base64!"));
+		assertThatIllegalArgumentException().isThrownBy(() -> NewsCursor.decode(token("v1|2025-03-01T10:00|42")));
+		assertThatIllegalArgumentException().isThrownBy(() -> NewsCursor.decode(token("v2|2025-03-01T10:00|2025-03-01T10:00|42")));
+		assertThatIllegalArgumentException().isThrownBy(() -> NewsCursor.decode(token("v1|yesterday|2025-03-01T10:00|42")));
+		assertThatIllegalArgumentException().isThrownBy(() -> NewsCursor.decode(token("v1|2025-03-01T10:00|2025-03-01T10:00|forty-two")));
+		assertThatIllegalArgumentException().isThrownBy(() -> NewsCursor.decode(""));
+	}
+
+	private static String token(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
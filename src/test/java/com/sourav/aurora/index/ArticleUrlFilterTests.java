@@ -0,0 +1,81 @@
+package com.sourav.aurora.index;
+
+import com.sourav.aurora.config.NewsProviderConfig;
+import com.sourav.aurora.event.ArticlesPurgedEvent;
+import com.sourav.aurora.repository.ArticleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ArticleUrlFilterTests {
+
+	private final List<String> storedUrls = new ArrayList<>();
+	private ArticleRepository articleRepository;
+	private ArticleUrlFilter urlFilter;
+
+	@BeforeEach
+	void setUp() {
+		articleRepository = mock(ArticleRepository.class);
+		when(articleRepository.count()).thenAnswer(invocation -> (long) storedUrls.size());
+		doAnswer(invocation -> {
+			Consumer<String> consumer = invocation.getArgument(0);
+			List.copyOf(storedUrls).forEach(consumer);
+			return null;
+		}).when(articleRepository).forEachUrl(any());
+		urlFilter = new ArticleUrlFilter(articleRepository, new NewsProviderConfig(), new SimpleMeterRegistry());
+	}
+
+	@Test
+	void everyUrlIsAPossibleMemberUntilTheFirstBuild() {
+		assertThat(urlFilter.mightContain("https://example.com/unknown")).isTrue();
+	}
+
+	@Test
+	void rebuildLoadsStoredUrlsAndRulesOutOthers() {
+		storedUrls.add("https://example.com/stored");
+
+		urlFilter.initialize();
+
+		assertThat(urlFilter.mightContain("https://example.com/stored")).isTrue();
+		assertThat(urlFilter.mightContain("https://example.com/new")).isFalse();
+	}
+
+	@Test
+	void urlsSavedDuringARebuildSurviveTheSwap() {
+		urlFilter.initialize();
+		doAnswer(invocation -> {
+			// Saved by another request while the table is being scanned
+			urlFilter.put("https://example.com/saved-during-scan");
+			return null;
+		}).when(articleRepository).forEachUrl(any());
+
+		urlFilter.rebuild();
+
+		assertThat(urlFilter.mightContain("https://example.com/saved-during-scan")).isTrue();
+	}
+
+	@Test
+	void purgeForgetsUrlsThatAreNoLongerStored() {
+		storedUrls.add("https://example.com/kept");
+		storedUrls.add("https://example.com/purged");
+		urlFilter.initialize();
+
+		storedUrls.remove("https://example.com/purged");
+		urlFilter.onArticlesPurged(new ArticlesPurgedEvent(LocalDateTime.now(), 1, List.of()));
+
+		assertThat(urlFilter.mightContain("https://example.com/kept")).isTrue();
+		assertThat(urlFilter.mightContain("https://example.com/purged")).isFalse();
+	}
+
+}
@@ -0,0 +1,51 @@
+package com.sourav.aurora.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTests {
+
+	@Test
+	void neverForgetsAnInsertedValue() {
+		BloomFilter filter = BloomFilter.create(1000, 0.01);
+
+		for (int i = 0; i < 1000; i++) {
+			filter.put("https://example.com/article/" + i);
+		}
+
+		for (int i = 0; i < 1000; i++) {
+			assertThat(filter.mightContain("https://example.com/article/" + i)).isTrue();
+		}
+		// A value whose bits were all set already is not counted
+		assertThat(filter.insertions()).isBetween(990L, 1000L);
+	}
+
+	@Test
+	void falsePositiveRateStaysNearTheTargetAtCapacity() {
+		BloomFilter filter = BloomFilter.create(10000, 0.01);
+		for (int i = 0; i < 10000; i++) {
+			filter.put("https://example.com/stored/" + i);
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < 10000; i++) {
+			if (filter.mightContain("https://example.com/absent/" + i)) {
+				falsePositives++;
+			}
+		}
+
+		assertThat(falsePositives / 10000.0).isLessThan(0.02);
+		assertThat(filter.expectedFpp()).isBetween(0.005, 0.02);
+	}
+
+	@Test
+	void reinsertingAValueDoesNotCountTwice() {
+		BloomFilter filter = BloomFilter.create(100, 0.01);
+
+		assertThat(filter.put("https://example.com/a")).isTrue();
+		assertThat(filter.put("https://example.com/a")).isFalse();
+		assertThat(filter.insertions()).isEqualTo(1);
+	}
+
+}
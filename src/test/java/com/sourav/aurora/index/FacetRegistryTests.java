@@ -0,0 +1,114 @@
+package com.sourav.aurora.index;
+
+import com.sourav.aurora.event.ArticlesPurgedEvent;
+import com.sourav.aurora.event.ArticlesSavedEvent;
+import com.sourav.aurora.model.Article;
+import com.sourav.aurora.repository.ArticleRepository;
+import com.sourav.aurora.repository.FacetBreakdown;
+import com.sourav.aurora.repository.FacetCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FacetRegistryTests {
+
+	private ArticleRepository articleRepository;
+	private FacetRegistry facetRegistry;
+
+	@BeforeEach
+	void setUp() {
+		articleRepository = mock(ArticleRepository.class);
+		when(articleRepository.countByCountry()).thenReturn(List.of(count("in", 2), count("us", 1)));
+		when(articleRepository.countByLanguage()).thenReturn(List.of(count("en", 3)));
+		when(articleRepository.countByCategory()).thenReturn(List.of(count("business", 2), count("sports", 1)));
+		when(articleRepository.countBySource()).thenReturn(List.of(count("Reuters", 2), count("ESPN", 1)));
+		facetRegistry = new FacetRegistry(articleRepository);
+		facetRegistry.initialize();
+	}
+
+	@Test
+	void savedArticlesAddNewValues() {
+		Article article = Article.builder().country("gb").language("en").category("health").source("BBC").build();
+
+		facetRegistry.onArticlesSaved(new ArticlesSavedEvent(List.of(article)));
+
+		assertThat(facetRegistry.countries()).containsExactly("gb", "in", "us");
+		assertThat(facetRegistry.categories()).containsExactly("business", "health", "sports");
+	}
+
+	@Test
+	void purgeDropsOnlyValuesWithNoArticlesLeft() {
+		facetRegistry.onArticlesPurged(new ArticlesPurgedEvent(LocalDateTime.now(), 2, List.of(
+				breakdown("us", "en", "sports", "ESPN", 1),
+				breakdown("in", "en", "business", "Reuters", 1))));
+
+		assertThat(facetRegistry.countries()).containsExactly("in");
+		assertThat(facetRegistry.languages()).containsExactly("en");
+		assertThat(facetRegistry.categories()).containsExactly("business");
+		assertThat(facetRegistry.sources()).containsExactly("Reuters");
+	}
+
+	@Test
+	void purgeAdjustsCountsWithoutRecountingTheTable() {
+		facetRegistry.onArticlesPurged(new ArticlesPurgedEvent(LocalDateTime.now(), 3, List.of(
+				breakdown("in", "en", "business", "Reuters", 2),
+				breakdown(null, "en", null, "ESPN", 1))));
+
+		assertThat(facetRegistry.countries()).containsExactly("us");
+		assertThat(facetRegistry.categories()).containsExactly("sports");
+		assertThat(facetRegistry.languages()).isEmpty();
+		verify(articleRepository, times(1)).countByCountry();
+	}
+
+	private static FacetCount count(String name, long articleCount) {
+		return new FacetCount() {
+			@Override
+			public String getName() {
+				return name;
+			}
+
+			@Override
+			public long getArticleCount() {
+				return articleCount;
+			}
+		};
+	}
+
+	private static FacetBreakdown breakdown(String country, String language, String category, String source, long articleCount) {
+		return new FacetBreakdown() {
+			@Override
+			public String getCountry() {
+				return country;
+			}
+
+			@Override
+			public String getLanguage() {
+				return language;
+			}
+
+			@Override
+			public String getCategory() {
+				return category;
+			}
+
+			@Override
+			public String getSource() {
+				return source;
+			}
+
+			@Override
+			public long getArticleCount() {
+				return articleCount;
+			}
+		};
+	}
+
+}
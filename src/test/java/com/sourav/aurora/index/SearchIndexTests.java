@@ -0,0 +1,137 @@
+package com.sourav.aurora.index;
+
+import com.sourav.aurora.config.NewsProviderConfig;
+import com.sourav.aurora.dto.NewsCursor;
+import com.sourav.aurora.model.Article;
+import com.sourav.aurora.repository.ArticleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class SearchIndexTests {
+
+	private static final LocalDateTime NOW = LocalDateTime.now().withNano(0);
+
+	private ArticleRepository articleRepository;
+	private SearchIndex searchIndex;
+
+	@BeforeEach
+	void setUp() {
+		articleRepository = mock(ArticleRepository.class);
+		NewsProviderConfig config = new NewsProviderConfig();
+		// Rank on text alone so that the expected order does not depend on publication times
+		config.getSearch().setRecencyWeight(0);
+		searchIndex = new SearchIndex(articleRepository, config, new SimpleMeterRegistry());
+	}
+
+	@Test
+	void everyTermIsRequiredAndMoreFrequentTermsRankHigher() {
+		searchIndex.index(List.of(
+				article(1, "Solar power record", "Solar farms and solar panels", "us", NOW),
+				article(2, "Wind power grows", "A brief solar mention", "us", NOW),
+				article(3, "Solar eclipse tonight", null, "us", NOW)));
+
+		SearchIndex.SearchResult result = searchIndex.search("solar power", null, null, null, 0, 10);
+
+		assertThat(result.articleIds()).containsExactly(1L, 2L);
+		assertThat(result.totalMatches()).isEqualTo(2);
+	}
+
+	@Test
+	void lastTermMatchesAsAPrefix() {
+		searchIndex.index(List.of(
+				article(1, "Election results", null, "us", NOW),
+				article(2, "Elected officials", null, "us", NOW)));
+
+		assertThat(searchIndex.search("elect", null, null, null, 0, 10).articleIds()).containsExactlyInAnyOrder(1L, 2L);
+		assertThat(searchIndex.search("elect results", null, null, null, 0, 10).articleIds()).isEmpty();
+	}
+
+	@Test
+	void filtersIntersectWithTheQueryTerms() {
+		searchIndex.index(List.of(
+				article(1, "Market rally", null, "us", NOW),
+				article(2, "Market slump", null, "in", NOW),
+				article(3, "Cricket final", null, "in", NOW)));
+
+		assertThat(searchIndex.search("market", "in", null, null, 0, 10).articleIds()).containsExactly(2L);
+		assertThat(searchIndex.search("market", "in", "en", null, 0, 10).articleIds()).containsExactly(2L);
+		assertThat(searchIndex.search("market", "in", "fr", null, 0, 10).articleIds()).isEmpty();
+		assertThat(searchIndex.search("market", "gb", null, null, 0, 10).totalMatches()).isZero();
+	}
+
+	@Test
+	void pruneRenumbersTheRemainingDocuments() {
+		searchIndex.index(List.of(
+				article(1, "Market opens", null, "us", NOW.minusDays(10)),
+				article(2, "Market closes", null, "in", NOW.minusDays(10)),
+				article(3, "Market holiday", null, "in", NOW)));
+
+		searchIndex.prune(NOW.minusDays(5));
+		searchIndex.index(List.of(article(4, "Market reopens", null, "us", NOW)));
+
+		assertThat(searchIndex.search("market", null, null, null, 0, 10).articleIds()).containsExactlyInAnyOrder(3L, 4L);
+		assertThat(searchIndex.search("market", "in", null, null, 0, 10).articleIds()).containsExactly(3L);
+		assertThat(searchIndex.search("market", "us", null, null, 0, 10).articleIds()).containsExactly(4L);
+		assertThat(searchIndex.search("opens", null, null, null, 0, 10).articleIds()).isEmpty();
+	}
+
+	@Test
+	void searchAfterContinuesFromTheCursorInListingOrder() {
+		searchIndex.index(List.of(
+				article(1, "Budget news", null, "us", NOW.minusHours(5)),
+				article(2, "Budget debate", null, "us", NOW.minusHours(1)),
+				article(3, "Budget vote", null, "us", NOW.minusHours(3)),
+				article(4, "Budget passed", null, "us", NOW.minusHours(2)),
+				article(5, "Weather today", null, "us", NOW)));
+
+		List<Long> first = searchIndex.searchAfter("budget", null, null, null, null, 2);
+		NewsCursor cursor = new NewsCursor(NOW.minusHours(2), NOW.minusHours(2), 4);
+		List<Long> second = searchIndex.searchAfter("budget", null, null, null, cursor, 2);
+		List<Long> last = searchIndex.searchAfter("budget", null, null, null, new NewsCursor(NOW.minusHours(5), NOW.minusHours(5), 1), 2);
+
+		assertThat(first).containsExactly(2L, 4L);
+		assertThat(second).containsExactly(3L, 1L);
+		assertThat(last).isEmpty();
+	}
+
+	@Test
+	void loadDoesNotBringBackRowsPurgedWhileItRan() {
+		doAnswer(invocation -> {
+			Consumer<Article> consumer = invocation.getArgument(0);
+			consumer.accept(article(1, "Market opens", null, "us", NOW.minusDays(10)));
+			consumer.accept(article(2, "Market holiday", null, "us", NOW));
+			// The retention cleanup commits while the rows above are still waiting to be indexed
+			searchIndex.prune(NOW.minusDays(5));
+			return null;
+		}).when(articleRepository).forEachArticle(any());
+
+		searchIndex.load();
+
+		assertThat(searchIndex.search("market", null, null, null, 0, 10).articleIds()).containsExactly(2L);
+	}
+
+	private static Article article(long id, String title, String description, String country, LocalDateTime time) {
+		return Article.builder()
+				.id(id)
+				.title(title)
+				.description(description)
+				.source("Wire")
+				.country(country)
+				.language("en")
+				.url("https://example.com/" + id)
+				.publishedAt(time)
+				.fetchedAt(time)
+				.build();
+	}
+
+}
@@ -0,0 +1,106 @@
+package com.sourav.aurora.provider;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sourav.aurora.config.NewsProviderConfig;
+import com.sourav.aurora.model.Article;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsApiProviderTests {
+
+	private static final String PAGE_ONE = """
+			{"status":"ok","totalResults":250,"articles":[
+			{"source":{"name":"Wire"},"title":"Second","url":"https://example.com/2","publishedAt":"2026-10-01T10:02:00Z"},
+			{"source":{"name":"Wire"},"title":"First","url":"https://example.com/1","publishedAt":"2026-10-01T10:01:00Z"}]}
+			""";
+	private static final String RESULTS_LIMIT = """
+			{"status":"error","code":"maximumResultsReached","message":"You have requested too many results."}
+			""";
+
+	@TempDir
+	Path stateDir;
+
+	private final List<String> requestedPages = new CopyOnWriteArrayList<>();
+	private HttpServer server;
+	private NewsProviderConfig config;
+	private ProviderQuotaLedger quotaLedger;
+	private NewsApiProvider provider;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", this::answer);
+		server.start();
+
+		NewsProviderConfig.ProviderSettings settings = new NewsProviderConfig.ProviderSettings();
+		settings.setBaseUrl("http://localhost:" + server.getAddress().getPort() + "/v2");
+		settings.setMaxArticles(2);
+		settings.setMaxPages(3);
+		settings.setRequestsPerMinute(6000);
+		settings.setBurst(10);
+		config = new NewsProviderConfig();
+		config.setApikeys(Map.of("newsapi", "test-key"));
+		config.setProviders(Map.of("newsapi", settings));
+		config.setQuotaStateFile(stateDir.resolve("quota.properties").toString());
+		config.getProviderCache().setEnabled(false);
+
+		ProviderResponseCache responseCache = new ProviderResponseCache(config, new SimpleMeterRegistry());
+		quotaLedger = new ProviderQuotaLedger(config);
+		provider = new NewsApiProvider(WebClient.builder().filter(responseCache).build(), config,
+				new ObjectMapper().findAndRegisterModules(), quotaLedger, responseCache, new ProviderHighWaterMarks(config));
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	void resultsLimitOnALaterPageEndsPagingWithoutExhaustingTheQuota() {
+		List<List<Article>> pages = provider.streamPages("us", "en", "general", null, 1).collectList().block();
+
+		assertThat(pages).flatMap(page -> page).extracting(Article::getTitle).containsExactly("Second", "First");
+		assertThat(requestedPages).containsExactly("1", "2");
+		assertThat(quotaLedger.status(provider.getProviderName(), provider.getConfig()))
+				.containsEntry("used", 2)
+				.containsEntry("remaining", 98);
+		assertThat(provider.isHealthy()).isTrue();
+	}
+
+	@Test
+	void laterQueriesAreStillSentAfterTheResultsLimit() {
+		provider.streamPages("us", "en", "general", null, 1).blockLast();
+
+		List<Article> articles = provider.streamNews("us", "en", "business", null).collectList().block();
+
+		assertThat(articles).hasSize(2);
+		assertThat(requestedPages).containsExactly("1", "2", "1");
+	}
+
+	private void answer(HttpExchange exchange) throws IOException {
+		String page = exchange.getRequestURI().getQuery().replaceAll(".*\\bpage=(\\d+).*", "$1");
+		requestedPages.add(page);
+		byte[] body = ("1".equals(page) ? PAGE_ONE : RESULTS_LIMIT).getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders("1".equals(page) ? 200 : 426, body.length);
+		exchange.getResponseBody().write(body);
+		exchange.close();
+	}
+
+}
@@ -0,0 +1,122 @@
+package com.sourav.aurora.provider;
+
+import com.sourav.aurora.config.NewsProviderConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProviderCircuitBreakerTests {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+	private static final long SLOW = TimeUnit.SECONDS.toNanos(30);
+
+	@Test
+	void staysClosedUntilTheMinimumNumberOfCalls() {
+		ProviderCircuitBreaker breaker = breaker(60);
+
+		for (int i = 0; i < 4; i++) {
+			breaker.tryAcquire().onFailure(FAST);
+		}
+
+		assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.CLOSED);
+		assertThat(breaker.tryAcquire()).isNotNull();
+	}
+
+	@Test
+	void opensOnFailureRateAndRefusesCalls() {
+		ProviderCircuitBreaker breaker = breaker(60);
+
+		breaker.tryAcquire().onSuccess(FAST);
+		breaker.tryAcquire().onSuccess(FAST);
+		breaker.tryAcquire().onFailure(FAST);
+		breaker.tryAcquire().onFailure(FAST);
+		breaker.tryAcquire().onFailure(FAST);
+
+		assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.OPEN);
+		assertThat(breaker.tryAcquire()).isNull();
+		assertThat(breaker.isCallPermitted()).isFalse();
+	}
+
+	@Test
+	void opensOnSlowCallRate() {
+		ProviderCircuitBreaker breaker = breaker(60);
+
+		breaker.tryAcquire().onSuccess(FAST);
+		for (int i = 0; i < 4; i++) {
+			breaker.tryAcquire().onSuccess(SLOW);
+		}
+
+		assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.OPEN);
+	}
+
+	@Test
+	void halfOpenLimitsProbesAndClosesWhenAllSucceed() {
+		ProviderCircuitBreaker breaker = opened(breaker(0));
+
+		ProviderCircuitBreaker.Permit first = breaker.tryAcquire();
+		ProviderCircuitBreaker.Permit second = breaker.tryAcquire();
+		ProviderCircuitBreaker.Permit third = breaker.tryAcquire();
+
+		assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.HALF_OPEN);
+		assertThat(breaker.tryAcquire()).isNull();
+
+		first.onSuccess(FAST);
+		second.onSuccess(FAST);
+		third.onSuccess(FAST);
+
+		assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.CLOSED);
+		assertThat(breaker.status()).containsEntry("windowCalls", 0);
+	}
+
+	@Test
+	void failedProbeOpensTheBreakerAgain() {
+		ProviderCircuitBreaker breaker = opened(breaker(0));
+
+		ProviderCircuitBreaker.Permit probe = breaker.tryAcquire();
+		probe.onFailure(FAST);
+
+		assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.OPEN);
+	}
+
+	@Test
+	void releasedProbeGoesBackToThePool() {
+		ProviderCircuitBreaker breaker = opened(breaker(0));
+
+		breaker.tryAcquire().release();
+		ProviderCircuitBreaker.Permit[] probes = {breaker.tryAcquire(), breaker.tryAcquire(), breaker.tryAcquire()};
+
+		assertThat(probes).doesNotContainNull();
+		assertThat(breaker.tryAcquire()).isNull();
+	}
+
+	@Test
+	void outcomesOfCallsFromAnEarlierPhaseAreIgnored() {
+		ProviderCircuitBreaker breaker = breaker(0);
+		ProviderCircuitBreaker.Permit late = breaker.tryAcquire();
+		opened(breaker);
+
+		ProviderCircuitBreaker.Permit probe = breaker.tryAcquire();
+		late.onFailure(FAST);
+
+		assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.HALF_OPEN);
+		probe.onSuccess(FAST);
+		assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.HALF_OPEN);
+	}
+
+	private static ProviderCircuitBreaker breaker(int openDurationSeconds) {
+		NewsProviderConfig.CircuitBreaker settings = new NewsProviderConfig.CircuitBreaker();
+		settings.setOpenDuration(openDurationSeconds);
+		return new ProviderCircuitBreaker("test", settings);
+	}
+
+	private static ProviderCircuitBreaker opened(ProviderCircuitBreaker breaker) {
+		for (int i = 0; i < 5; i++) {
+			breaker.tryAcquire().onFailure(FAST);
+		}
+		assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.OPEN);
+		return breaker;
+	}
+
+}
@@ -0,0 +1,108 @@
+package com.sourav.aurora.provider;
+
+import com.sourav.aurora.config.NewsProviderConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class ProviderResponseCacheTests {
+
+	private static final String BODY = "{\"status\":\"ok\",\"articles\":[]}";
+	private static final String ETAG = "\"v1\"";
+
+	@TempDir
+	Path cacheDir;
+
+	private final List<String> conditions = new CopyOnWriteArrayList<>();
+	private HttpServer server;
+	private WebClient webClient;
+	private String url;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", this::answer);
+		server.start();
+		url = "http://localhost:" + server.getAddress().getPort() + "/v2/top-headlines?apiKey=secret&country=us";
+
+		NewsProviderConfig config = new NewsProviderConfig();
+		config.getProviderCache().setDirectory(cacheDir.toString());
+		webClient = WebClient.builder().filter(new ProviderResponseCache(config, new SimpleMeterRegistry())).build();
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	void notModifiedIsAnsweredWithTheStoredBody() {
+		assertThat(get().getBody()).isEqualTo(BODY);
+		await().until(() -> cacheDir.toFile().list().length == 2);
+
+		ResponseEntity<String> revalidated = get();
+
+		assertThat(conditions).containsExactly("none", ETAG);
+		assertThat(revalidated.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(revalidated.getBody()).isEqualTo(BODY);
+	}
+
+	@Test
+	void storedBodyIsReplayedEveryTimeNotOnlyOnce() {
+		get();
+		await().until(() -> cacheDir.toFile().list().length == 2);
+
+		// Whether the articles were saved is not known here: a replay must not turn into an empty response
+		get();
+		ResponseEntity<String> again = get();
+
+		assertThat(conditions).containsExactly("none", ETAG, ETAG);
+		assertThat(again.getBody()).isEqualTo(BODY);
+	}
+
+	@Test
+	void credentialsAreNotPartOfTheKey() {
+		assertThat(ProviderResponseCache.cacheKey(URI.create(url)))
+				.doesNotContain("secret")
+				.endsWith("/v2/top-headlines?country=us");
+	}
+
+	private ResponseEntity<String> get() {
+		return webClient.get().uri(url).retrieve().toEntity(String.class).block();
+	}
+
+	private void answer(HttpExchange exchange) throws IOException {
+		String condition = exchange.getRequestHeaders().getFirst("If-None-Match");
+		conditions.add(condition != null ? condition : "none");
+		exchange.getResponseHeaders().set("ETag", ETAG);
+		if (ETAG.equals(condition)) {
+			exchange.sendResponseHeaders(304, -1);
+			exchange.close();
+			return;
+		}
+		byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, body.length);
+		exchange.getResponseBody().write(body);
+		exchange.close();
+	}
+
+}
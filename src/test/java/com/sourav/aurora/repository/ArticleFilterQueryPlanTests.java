@@ -0,0 +1,80 @@
+package com.sourav.aurora.repository;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the H2 plans of the filtered listing queries, so a filter combination that silently falls back
+ * to a table scan fails the build
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ArticleFilterQueryPlanTests {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	static Stream<Arguments> filterCombinations() {
+		List<Arguments> combinations = new ArrayList<>();
+		for (int mask = 0; mask < 16; mask++) {
+			combinations.add(Arguments.of(
+					(mask & 1) != 0 ? "us" : null,
+					(mask & 2) != 0 ? "en" : null,
+					(mask & 4) != 0 ? "technology" : null,
+					(mask & 8) != 0 ? "climate" : null));
+		}
+		return combinations.stream();
+	}
+
+	@ParameterizedTest
+	@MethodSource("filterCombinations")
+	void listingUsesAnIndex(String country, String language, String category, String keyword) {
+		ArticleFilterQuery query = ArticleFilterQuery.of(country, language, category, keyword);
+
+		assertUsesIndex(query.selectSql(), query.parameters());
+	}
+
+	@ParameterizedTest
+	@MethodSource("filterCombinations")
+	void keysetSeekUsesAnIndex(String country, String language, String category, String keyword) {
+		LocalDateTime position = LocalDateTime.now();
+		ArticleFilterQuery query = ArticleFilterQuery.of(country, language, category, keyword)
+				.after(position, position, 1000L);
+
+		assertUsesIndex(query.selectSql(), query.parameters());
+	}
+
+	@ParameterizedTest
+	@MethodSource("filterCombinations")
+	void filteredCountUsesAnIndex(String country, String language, String category, String keyword) {
+		if (country == null && language == null && category == null) {
+			// Nothing to look up: an unfiltered count is answered from the row count, a keyword-only count must scan
+			return;
+		}
+		ArticleFilterQuery query = ArticleFilterQuery.of(country, language, category, keyword);
+
+		assertUsesIndex(query.countSql(), query.parameters());
+	}
+
+	private void assertUsesIndex(String sql, List<Object> parameters) {
+		String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters.toArray());
+
+		assertThat(plan)
+				.as("plan for %s", sql)
+				.doesNotContain("tableScan")
+				.contains("IDX_ARTICLES_");
+	}
+
+}